@@ -0,0 +1,119 @@
+package io.github.luchersol;
+
+import java.time.Duration;
+
+/**
+ * CacheSpec describes how a cached {@link Pipeline} step memoizes its results: the maximum number
+ * of entries, the eviction policy, an optional time-to-live and whether fallback results are cached.
+ * Instances are immutable; every {@code with*} method returns a new spec.
+ */
+public final class CacheSpec {
+
+    /**
+     * Policy used to choose the entry to drop when the cache is full.
+     */
+    public enum Eviction {
+        /** Evicts the least recently used entry. */
+        LRU,
+        /** Evicts the least frequently used entry. */
+        LFU,
+        /** Small LRU admission window in front of an LRU main area guarded by a TinyLFU frequency filter. */
+        TINY_LFU
+    }
+
+    private final long maximumSize;
+    private final Eviction eviction;
+    private final Duration expireAfterWrite;
+    private final boolean cacheFallbacks;
+
+    private CacheSpec(long maximumSize, Eviction eviction, Duration expireAfterWrite, boolean cacheFallbacks) {
+        Checker.check(maximumSize > 0, "maximumSize must be > 0");
+        Checker.check(eviction != null, "eviction must not be null");
+        Checker.check(expireAfterWrite == null || !expireAfterWrite.isNegative(), "expireAfterWrite must not be negative");
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expireAfterWrite = expireAfterWrite;
+        this.cacheFallbacks = cacheFallbacks;
+    }
+
+    /**
+     * Creates a spec for a cache holding at most {@code maximumSize} entries, evicted with W-TinyLFU.
+     *
+     * @param maximumSize the maximum number of entries
+     * @return a new cache spec
+     */
+    public static CacheSpec of(long maximumSize) {
+        return new CacheSpec(maximumSize, Eviction.TINY_LFU, null, false);
+    }
+
+    /**
+     * Creates a spec for a cache holding at most {@code maximumSize} entries, evicted in LRU order.
+     *
+     * @param maximumSize the maximum number of entries
+     * @return a new cache spec
+     */
+    public static CacheSpec lru(long maximumSize) {
+        return new CacheSpec(maximumSize, Eviction.LRU, null, false);
+    }
+
+    /**
+     * Creates a spec for a cache holding at most {@code maximumSize} entries, evicted in LFU order.
+     *
+     * @param maximumSize the maximum number of entries
+     * @return a new cache spec
+     */
+    public static CacheSpec lfu(long maximumSize) {
+        return new CacheSpec(maximumSize, Eviction.LFU, null, false);
+    }
+
+    /**
+     * Returns a copy of this spec using the given eviction policy.
+     *
+     * @param eviction the eviction policy
+     * @return a new cache spec
+     */
+    public CacheSpec withEviction(Eviction eviction) {
+        return new CacheSpec(maximumSize, eviction, expireAfterWrite, cacheFallbacks);
+    }
+
+    /**
+     * Returns a copy of this spec whose entries expire once {@code ttl} has elapsed since they were written.
+     *
+     * @param ttl the time-to-live of each entry
+     * @return a new cache spec
+     */
+    public CacheSpec withExpireAfterWrite(Duration ttl) {
+        return new CacheSpec(maximumSize, eviction, ttl, cacheFallbacks);
+    }
+
+    /**
+     * Returns a copy of this spec that also caches the values produced by fallbacks.
+     *
+     * @return a new cache spec
+     */
+    public CacheSpec withCachedFallbacks() {
+        return new CacheSpec(maximumSize, eviction, expireAfterWrite, true);
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public boolean isCacheFallbacks() {
+        return cacheFallbacks;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheSpec{maximumSize=" + maximumSize + ", eviction=" + eviction
+                + ", expireAfterWrite=" + expireAfterWrite + ", cacheFallbacks=" + cacheFallbacks + "}";
+    }
+}
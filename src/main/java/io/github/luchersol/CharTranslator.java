@@ -0,0 +1,405 @@
+package io.github.luchersol;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Character translation table compiled once from a replacement map and reusable across calls.
+ * <p>
+ * Replacements between characters of the Basic Multilingual Plane are resolved with a dense
+ * {@code char[]} lookup; supplementary code points (keys or values) go to a sorted sparse table.
+ * Surrogate pairs are translated as whole code points and unpaired surrogates are copied as
+ * they are. Input is normalized to NFC first, unless it is already NFC, and when no character
+ * is replaced the (normalized) input string itself is returned.
+ * <p>
+ * Besides strings, a translator can process a {@link Reader}, a {@link Writer}, a
+ * {@link CharBuffer} in place or a whole file. The streaming variants work in fixed-size chunks
+ * that are only cut right before a character that cannot combine with what precedes it, so NFC
+ * normalization gives the same result as on the whole text while heap usage stays constant.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class CharTranslator {
+
+    // Por debajo de U+0300 no hay marcas combinables: la cadena ya está en NFC
+    private static final char NFC_QUICK_CHECK_LIMIT = '\u0300';
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final long MAP_WINDOW = 64L << 20;
+
+    // Vía rápida ASCII: se leen 8 bytes por operación (SWAR) para saltar los bloques sin reemplazos
+    private static final int ASCII_FAST_PATH_MIN = 16;
+    private static final int MAX_BROADCAST_KEYS = 8;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final char[] bmp;
+    private final int[] sparseKeys;
+    private final int[] sparseValues;
+    private final boolean sparseBmpKeys;
+    private final boolean sparseSupplementaryKeys;
+    private final byte[] asciiTable;
+    private final long[] asciiBroadcast;
+
+    private CharTranslator(Map<Integer, Integer> replacements) {
+        Map<Integer, Integer> sparse = new TreeMap<>();
+        int maxBmpKey = -1;
+        for (Map.Entry<Integer, Integer> entry : replacements.entrySet()) {
+            int key = entry.getKey(), value = entry.getValue();
+            Checker.check(Character.isValidCodePoint(key) && Character.isValidCodePoint(value), "Invalid code point in replacements");
+            if (Character.isBmpCodePoint(key) && Character.isBmpCodePoint(value)) maxBmpKey = Math.max(maxBmpKey, key);
+            else sparse.put(key, value);
+        }
+
+        this.bmp = new char[maxBmpKey + 1];
+        for (int c = 0; c < bmp.length; c++) bmp[c] = (char) c;
+        for (Map.Entry<Integer, Integer> entry : replacements.entrySet())
+            if (!sparse.containsKey(entry.getKey())) bmp[entry.getKey()] = (char) entry.getValue().intValue();
+
+        this.sparseKeys = sparse.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.sparseValues = sparse.values().stream().mapToInt(Integer::intValue).toArray();
+        this.sparseBmpKeys = sparseKeys.length > 0 && Character.isBmpCodePoint(sparseKeys[0]);
+        this.sparseSupplementaryKeys = sparseKeys.length > 0 && !Character.isBmpCodePoint(sparseKeys[sparseKeys.length - 1]);
+
+        // Sólo hay vía rápida si los reemplazos de caracteres ASCII se quedan en ASCII
+        byte[] table = new byte[128];
+        long[] broadcast = new long[128];
+        int mapped = 0;
+        for (int c = 0; table != null && c < 128; c++) {
+            int target = translate(c);
+            if (target >= 128) table = null;
+            else {
+                table[c] = (byte) target;
+                if (target != c) broadcast[mapped++] = c * ONES;
+            }
+        }
+        this.asciiTable = table;
+        this.asciiBroadcast = mapped <= MAX_BROADCAST_KEYS ? Arrays.copyOf(broadcast, mapped) : null;
+    }
+
+    /**
+     * Compiles a translator from a map of character replacements.
+     *
+     * @param replacements the replacement of each character
+     * @return the compiled translator
+     */
+    public static CharTranslator of(Map<Character, Character> replacements) {
+        Map<Integer, Integer> codePoints = new TreeMap<>();
+        replacements.forEach((key, value) -> codePoints.put((int) key, (int) value));
+        return new CharTranslator(codePoints);
+    }
+
+    /**
+     * Compiles a translator from a map of code point replacements, which may include
+     * supplementary characters as keys or values.
+     *
+     * @param replacements the replacement of each code point
+     * @return the compiled translator
+     * @throws IllegalArgumentException if a key or value is not a valid code point
+     */
+    public static CharTranslator ofCodePoints(Map<Integer, Integer> replacements) {
+        return new CharTranslator(replacements);
+    }
+
+    /**
+     * Returns the replacement of a code point, or the code point itself if it has none.
+     *
+     * @param codePoint the code point to translate
+     * @return the translated code point
+     */
+    public int translate(int codePoint) {
+        if (codePoint < bmp.length && bmp[codePoint] != codePoint) return bmp[codePoint];
+        if (sparseKeys.length == 0) return codePoint;
+        int i = Arrays.binarySearch(sparseKeys, codePoint);
+        return i >= 0 ? sparseValues[i] : codePoint;
+    }
+
+    /**
+     * Normalizes the string to NFC, if it is not already, and replaces every mapped code point.
+     *
+     * @param str the string to translate
+     * @return the translated string, or the normalized input itself if nothing was replaced
+     */
+    public String translate(String str) {
+        if (asciiTable != null && str.length() >= ASCII_FAST_PATH_MIN && isAscii(str))
+            return translateAscii(str);
+
+        str = normalize(str);
+        int n = str.length();
+
+        int first = 0;
+        while (first < n && !isMapped(str, first))
+            first += Character.charCount(str.codePointAt(first));
+        if (first == n) return str;
+
+        StringBuilder result = new StringBuilder(n);
+        result.append(str, 0, first);
+        for (int i = first; i < n; ) {
+            char c = str.charAt(i);
+            if (c < bmp.length && bmp[c] != c) {
+                result.append(bmp[c]);
+                i++;
+            } else if (!sparseBmpKeys && !Character.isSurrogate(c)) {
+                result.append(c);
+                i++;
+            } else {
+                int codePoint = str.codePointAt(i);
+                result.appendCodePoint(translate(codePoint));
+                i += Character.charCount(codePoint);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Replaces the mapped characters of the remaining content of the buffer in place, without
+     * moving its position.
+     * <p>
+     * Only translators whose replacements are all single BMP characters can work in place, and
+     * since normalization may change the length of the text the content must already be NFC.
+     *
+     * @param buffer the buffer to translate
+     * @throws IllegalArgumentException if the translator maps supplementary characters or the
+     *         content is not NFC
+     */
+    public void translate(CharBuffer buffer) {
+        Checker.check(sparseKeys.length == 0, "In-place translation needs BMP-only replacements");
+        int from = buffer.position(), to = buffer.limit();
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) >= NFC_QUICK_CHECK_LIMIT) {
+                Checker.check(Normalizer.isNormalized(buffer, Normalizer.Form.NFC), "In-place translation needs NFC content");
+                break;
+            }
+        }
+        for (int i = from; i < to; i++) {
+            char c = buffer.get(i);
+            if (c < bmp.length && bmp[c] != c) buffer.put(i, bmp[c]);
+        }
+    }
+
+    /**
+     * Translates all the characters of a reader into a writer. Neither of them is closed.
+     *
+     * @param in the source of characters
+     * @param out the destination of the translated characters
+     * @throws IOException if reading or writing fails
+     */
+    public void translate(Reader in, Writer out) throws IOException {
+        TranslatingWriter writer = new TranslatingWriter(out);
+        char[] chunk = new char[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(chunk)) != -1)
+            writer.write(chunk, 0, read);
+        writer.finish();
+        out.flush();
+    }
+
+    /**
+     * Translates a whole file into another one. The source is memory-mapped by windows and
+     * decoded incrementally, so files larger than the heap can be processed.
+     *
+     * @param source the file to read
+     * @param target the file to write, created or truncated
+     * @param charset the charset of both files
+     * @throws CharacterCodingException if the source is not valid in the charset
+     * @throws IOException if reading or writing fails
+     */
+    public void translate(Path source, Path target, Charset charset) throws IOException {
+        CharsetDecoder decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             TranslatingWriter out = new TranslatingWriter(Channels.newWriter(
+                 FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), charset))) {
+            CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+            long size = in.size(), position = 0;
+            do {
+                long length = Math.min(MAP_WINDOW, size - position);
+                boolean last = position + length == size;
+                MappedByteBuffer bytes = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                CoderResult result;
+                do {
+                    result = decoder.decode(bytes, chars, last);
+                    if (result.isError()) result.throwException();
+                    out.write(chars.flip());
+                    chars.clear();
+                } while (result.isOverflow());
+                // Los bytes de un carácter partido al final de la ventana se vuelven a mapear en la siguiente
+                position += length - bytes.remaining();
+            } while (position < size);
+            decoder.flush(chars);
+            out.write(chars.flip());
+        }
+    }
+
+    /**
+     * Returns a writer that translates every character written to it before passing it to
+     * {@code out}. Characters are buffered until a safe normalization boundary, so the writer
+     * must be closed to emit the last of them; closing it also closes {@code out}.
+     *
+     * @param out the destination of the translated characters
+     * @return the translating writer
+     */
+    public Writer wrap(Writer out) {
+        return new TranslatingWriter(out);
+    }
+
+    // ----------------- Helpers -----------------
+
+    // Acumula caracteres y traduce por bloques que terminan justo antes de un carácter que no se combina hacia atrás
+    private final class TranslatingWriter extends FilterWriter {
+        private final char[] buffer = new char[CHUNK_SIZE];
+        private int pending;
+
+        TranslatingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            write(new char[] { (char) c }, 0, 1);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, buffer.length - pending);
+                System.arraycopy(cbuf, off, buffer, pending, n);
+                pending += n;
+                off += n;
+                len -= n;
+                if (pending == buffer.length) emit(cut());
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            char[] chars = new char[len];
+            str.getChars(off, off + len, chars, 0);
+            write(chars, 0, len);
+        }
+
+        void write(CharBuffer chars) throws IOException {
+            while (chars.hasRemaining()) {
+                int n = Math.min(chars.remaining(), buffer.length - pending);
+                chars.get(buffer, pending, n);
+                pending += n;
+                if (pending == buffer.length) emit(cut());
+            }
+        }
+
+        // Último límite seguro del bloque; si no hay ninguno se corta al final sin partir un par sustituto
+        private int cut() {
+            for (int i = pending - 1; i > 0; i--)
+                if (isBoundary(buffer[i])) return i;
+            return Character.isHighSurrogate(buffer[pending - 1]) ? pending - 1 : pending;
+        }
+
+        private void emit(int end) throws IOException {
+            out.write(translate(new String(buffer, 0, end)));
+            System.arraycopy(buffer, end, buffer, 0, pending - end);
+            pending -= end;
+        }
+
+        void finish() throws IOException {
+            if (pending > 0) emit(pending);
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            super.close();
+        }
+    }
+
+    // Caracteres que no se reordenan ni se componen con el anterior: un bloque puede empezar en ellos
+    private static boolean isBoundary(char c) {
+        return c < NFC_QUICK_CHECK_LIMIT || (c >= '\u4E00' && c <= '\u9FFF') || (c >= '\uAC00' && c <= '\uD7A3');
+    }
+
+    private boolean isMapped(String str, int i) {
+        char c = str.charAt(i);
+        if (c < bmp.length && bmp[c] != c) return true;
+        if (Character.isHighSurrogate(c)) {
+            if (!sparseSupplementaryKeys) return false;
+        } else if (!sparseBmpKeys) return false;
+        int codePoint = str.codePointAt(i);
+        return Arrays.binarySearch(sparseKeys, codePoint) >= 0;
+    }
+
+    private static boolean isAscii(String str) {
+        for (int i = 0, n = str.length(); i < n; i++)
+            if (str.charAt(i) >= 0x80) return false;
+        return true;
+    }
+
+    // La cadena es ASCII (y por tanto NFC): se copia en bloque a bytes, se traducen sólo los bloques
+    // de 8 bytes que contienen alguna clave y se reconstruye en bloque
+    private String translateAscii(String str) {
+        if (asciiBroadcast != null && asciiBroadcast.length == 0) return str;
+
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        int n = bytes.length, i = 0;
+        boolean changed = false;
+        if (asciiBroadcast != null) {
+            for (; i + Long.BYTES <= n; i += Long.BYTES)
+                if (containsKey((long) LONGS.get(bytes, i)))
+                    changed |= translateAscii(bytes, i, i + Long.BYTES);
+        }
+        changed |= translateAscii(bytes, i, n);
+        return changed ? new String(bytes, StandardCharsets.ISO_8859_1) : str;
+    }
+
+    private boolean translateAscii(byte[] bytes, int from, int to) {
+        boolean changed = false;
+        for (int i = from; i < to; i++) {
+            byte target = asciiTable[bytes[i]];
+            if (target != bytes[i]) {
+                bytes[i] = target;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    // Algún byte de la palabra coincide con una clave: (x - 0x01..) & ~x & 0x80.. es distinto de 0 sii x tiene un byte nulo
+    private boolean containsKey(long word) {
+        for (long key : asciiBroadcast) {
+            long x = word ^ key;
+            if (((x - ONES) & ~x & HIGH_BITS) != 0) return true;
+        }
+        return false;
+    }
+
+    // Por debajo de U+0300 ningún carácter cambia con NFC; también la usa String2.swapCharacters
+    static String normalize(String str) {
+        for (int i = 0, n = str.length(); i < n; i++)
+            if (str.charAt(i) >= NFC_QUICK_CHECK_LIMIT)
+                return Normalizer.isNormalized(str, Normalizer.Form.NFC) ? str : Normalizer.normalize(str, Normalizer.Form.NFC);
+        return str;
+    }
+
+}
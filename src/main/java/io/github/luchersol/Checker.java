@@ -1,13 +1,14 @@
 package io.github.luchersol;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class Checker {
 
     public static void check(boolean condition, Function<String, ? extends Exception> f, String message) throws Throwable {
         if(!condition) throw f.apply(message);
     }
-    
+
     public static void check(boolean condition, String message) {
         if(!condition) throw new IllegalArgumentException(message);
     }
@@ -16,4 +17,50 @@ public class Checker {
         if(!condition) throw new IllegalArgumentException("Check error");
     }
 
+    // ----------------- Lazy messages -----------------
+
+    // El mensaje sólo se construye si la comprobación falla
+    public static void check(boolean condition, Supplier<String> message) {
+        if(!condition) throw fail(message.get());
+    }
+
+    // Formato de String.format; los argumentos se formatean sólo si la comprobación falla
+    public static void check(boolean condition, String format, Object... args) {
+        if(!condition) throw fail(String.format(format, args));
+    }
+
+    public static void check(boolean condition, String format, Object arg) {
+        if(!condition) throw fail(String.format(format, arg));
+    }
+
+    // Versiones primitivas: sin boxing ni array de argumentos mientras la comprobación se cumpla
+    public static void check(boolean condition, String format, int arg) {
+        if(!condition) throw fail(String.format(format, arg));
+    }
+
+    public static void check(boolean condition, String format, long arg) {
+        if(!condition) throw fail(String.format(format, arg));
+    }
+
+    public static void check(boolean condition, String format, double arg) {
+        if(!condition) throw fail(String.format(format, arg));
+    }
+
+    public static void check(boolean condition, String format, int arg0, int arg1) {
+        if(!condition) throw fail(String.format(format, arg0, arg1));
+    }
+
+    public static void check(boolean condition, String format, long arg0, long arg1) {
+        if(!condition) throw fail(String.format(format, arg0, arg1));
+    }
+
+    public static void check(boolean condition, String format, int arg0, int arg1, int arg2) {
+        if(!condition) throw fail(String.format(format, arg0, arg1, arg2));
+    }
+
+    // Fuera del método de comprobación para que éste sea lo bastante pequeño como para inlinearse
+    private static IllegalArgumentException fail(String message) {
+        return new IllegalArgumentException(message);
+    }
+
 }
@@ -0,0 +1,115 @@
+package io.github.luchersol;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+// Especialización double de Pipeline, al estilo de DoubleStream: los pasos trabajan con valores sin boxing
+// (DoubleUnaryOperator, DoublePredicate, DoubleSupplier) y sólo se pasa por objetos donde hace falta
+public final class DoublePipeline<T> {
+
+    private static final DoublePipeline<Double> EMPTY = new DoublePipeline<>(Double::doubleValue, null, true);
+
+    // Transforma la entrada en el primer valor double
+    private final ToDoubleFunction<? super T> source;
+
+    // Pasos double -> double ya compuestos (null si todavía no hay ninguno)
+    private final DoubleUnaryOperator operator;
+
+    // true si la entrada es un double y se puede aplicar sin boxing
+    private final boolean primitiveSource;
+
+    private DoublePipeline(ToDoubleFunction<? super T> source, DoubleUnaryOperator operator, boolean primitiveSource) {
+        this.source = source;
+        this.operator = operator;
+        this.primitiveSource = primitiveSource;
+    }
+
+    // Crear pipeline vacío sobre valores double
+    public static DoublePipeline<Double> empty() {
+        return EMPTY;
+    }
+
+    // Paso de objeto a double (usado por Pipeline.addToDouble)
+    static <T> DoublePipeline<T> from(ToDoubleFunction<? super T> source) {
+        return new DoublePipeline<>(source, null, false);
+    }
+
+    // ----------------- Steps -----------------
+
+    // Añadir un paso normal: double -> double
+    public DoublePipeline<T> add(DoubleUnaryOperator mapper) {
+        return append(PrimitiveSteps.doubleStep(mapper, null, null));
+    }
+
+    // Añadir un paso con alternativa externa
+    public DoublePipeline<T> addOrElse(DoubleUnaryOperator mapper, DoubleSupplier fallback) {
+        return append(PrimitiveSteps.doubleStep(mapper, null, fallback));
+    }
+
+    // Añadir un paso con condición y fallback
+    public DoublePipeline<T> addSwitch(DoubleUnaryOperator mapper, DoublePredicate condition, DoubleSupplier fallback) {
+        return append(PrimitiveSteps.doubleStep(mapper, condition, fallback));
+    }
+
+    private DoublePipeline<T> append(DoubleUnaryOperator step) {
+        return new DoublePipeline<>(source, PrimitiveSteps.doubleChain(operator, step), primitiveSource);
+    }
+
+    // ----------------- Transitions -----------------
+
+    // Paso double -> int
+    public IntPipeline<T> addToInt(DoubleToIntFunction mapper) {
+        return IntPipeline.from(input -> mapper.applyAsInt(applyAsDouble(input)));
+    }
+
+    // Paso double -> long
+    public LongPipeline<T> addToLong(DoubleToLongFunction mapper) {
+        return LongPipeline.from(input -> mapper.applyAsLong(applyAsDouble(input)));
+    }
+
+    // Volver a un pipeline de objetos
+    public <V> Pipeline<T, V> addToObj(DoubleFunction<? extends V> mapper) {
+        return Pipeline.<T>empty().add(input -> mapper.apply(applyAsDouble(input)));
+    }
+
+    // ----------------- Apply -----------------
+
+    // Aplicar pipeline a un objeto
+    public double applyAsDouble(T input) {
+        double value = source.applyAsDouble(input);
+        return operator == null ? value : operator.applyAsDouble(value);
+    }
+
+    // Aplicar pipeline a un double sin boxing (solo pipelines creados con empty())
+    public double applyAsDoubleFromDouble(double input) {
+        PrimitiveSteps.checkPrimitiveSource(primitiveSource, "double");
+        return operator == null ? input : operator.applyAsDouble(input);
+    }
+
+    // Aplicar pipeline a un array de double, respetando el orden de entrada
+    public double[] applyAll(double[] inputs) {
+        PrimitiveSteps.checkPrimitiveSource(primitiveSource, "double");
+        double[] result = new double[inputs.length];
+        if (operator == null) {
+            System.arraycopy(inputs, 0, result, 0, inputs.length);
+            return result;
+        }
+        for (int i = 0; i < inputs.length; i++) {
+            result[i] = operator.applyAsDouble(inputs[i]);
+        }
+        return result;
+    }
+
+    // Devuelve el pipeline como una función ToDoubleFunction
+    public ToDoubleFunction<T> compile() {
+        ToDoubleFunction<? super T> first = source;
+        DoubleUnaryOperator rest = operator;
+        if (rest == null) return first::applyAsDouble;
+        return input -> rest.applyAsDouble(first.applyAsDouble(input));
+    }
+}
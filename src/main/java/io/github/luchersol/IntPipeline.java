@@ -0,0 +1,115 @@
+package io.github.luchersol;
+
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+// Especialización int de Pipeline, al estilo de IntStream: los pasos trabajan con valores sin boxing
+// (IntUnaryOperator, IntPredicate, IntSupplier) y sólo se pasa por objetos donde hace falta
+public final class IntPipeline<T> {
+
+    private static final IntPipeline<Integer> EMPTY = new IntPipeline<>(Integer::intValue, null, true);
+
+    // Transforma la entrada en el primer valor int
+    private final ToIntFunction<? super T> source;
+
+    // Pasos int -> int ya compuestos (null si todavía no hay ninguno)
+    private final IntUnaryOperator operator;
+
+    // true si la entrada es un int y se puede aplicar sin boxing
+    private final boolean primitiveSource;
+
+    private IntPipeline(ToIntFunction<? super T> source, IntUnaryOperator operator, boolean primitiveSource) {
+        this.source = source;
+        this.operator = operator;
+        this.primitiveSource = primitiveSource;
+    }
+
+    // Crear pipeline vacío sobre valores int
+    public static IntPipeline<Integer> empty() {
+        return EMPTY;
+    }
+
+    // Paso de objeto a int (usado por Pipeline.addToInt)
+    static <T> IntPipeline<T> from(ToIntFunction<? super T> source) {
+        return new IntPipeline<>(source, null, false);
+    }
+
+    // ----------------- Steps -----------------
+
+    // Añadir un paso normal: int -> int
+    public IntPipeline<T> add(IntUnaryOperator mapper) {
+        return append(PrimitiveSteps.intStep(mapper, null, null));
+    }
+
+    // Añadir un paso con alternativa externa
+    public IntPipeline<T> addOrElse(IntUnaryOperator mapper, IntSupplier fallback) {
+        return append(PrimitiveSteps.intStep(mapper, null, fallback));
+    }
+
+    // Añadir un paso con condición y fallback
+    public IntPipeline<T> addSwitch(IntUnaryOperator mapper, IntPredicate condition, IntSupplier fallback) {
+        return append(PrimitiveSteps.intStep(mapper, condition, fallback));
+    }
+
+    private IntPipeline<T> append(IntUnaryOperator step) {
+        return new IntPipeline<>(source, PrimitiveSteps.intChain(operator, step), primitiveSource);
+    }
+
+    // ----------------- Transitions -----------------
+
+    // Paso int -> long
+    public LongPipeline<T> addToLong(IntToLongFunction mapper) {
+        return LongPipeline.from(input -> mapper.applyAsLong(applyAsInt(input)));
+    }
+
+    // Paso int -> double
+    public DoublePipeline<T> addToDouble(IntToDoubleFunction mapper) {
+        return DoublePipeline.from(input -> mapper.applyAsDouble(applyAsInt(input)));
+    }
+
+    // Volver a un pipeline de objetos
+    public <V> Pipeline<T, V> addToObj(IntFunction<? extends V> mapper) {
+        return Pipeline.<T>empty().add(input -> mapper.apply(applyAsInt(input)));
+    }
+
+    // ----------------- Apply -----------------
+
+    // Aplicar pipeline a un objeto
+    public int applyAsInt(T input) {
+        int value = source.applyAsInt(input);
+        return operator == null ? value : operator.applyAsInt(value);
+    }
+
+    // Aplicar pipeline a un int sin boxing (solo pipelines creados con empty())
+    public int applyAsIntFromInt(int input) {
+        PrimitiveSteps.checkPrimitiveSource(primitiveSource, "int");
+        return operator == null ? input : operator.applyAsInt(input);
+    }
+
+    // Aplicar pipeline a un array de int, respetando el orden de entrada
+    public int[] applyAll(int[] inputs) {
+        PrimitiveSteps.checkPrimitiveSource(primitiveSource, "int");
+        int[] result = new int[inputs.length];
+        if (operator == null) {
+            System.arraycopy(inputs, 0, result, 0, inputs.length);
+            return result;
+        }
+        for (int i = 0; i < inputs.length; i++) {
+            result[i] = operator.applyAsInt(inputs[i]);
+        }
+        return result;
+    }
+
+    // Devuelve el pipeline como una función ToIntFunction
+    public ToIntFunction<T> compile() {
+        ToIntFunction<? super T> first = source;
+        IntUnaryOperator rest = operator;
+        if (rest == null) return first::applyAsInt;
+        return input -> rest.applyAsInt(first.applyAsInt(input));
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.luchersol;
+
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+// Especialización long de Pipeline, al estilo de LongStream: los pasos trabajan con valores sin boxing
+// (LongUnaryOperator, LongPredicate, LongSupplier) y sólo se pasa por objetos donde hace falta
+public final class LongPipeline<T> {
+
+    private static final LongPipeline<Long> EMPTY = new LongPipeline<>(Long::longValue, null, true);
+
+    // Transforma la entrada en el primer valor long
+    private final ToLongFunction<? super T> source;
+
+    // Pasos long -> long ya compuestos (null si todavía no hay ninguno)
+    private final LongUnaryOperator operator;
+
+    // true si la entrada es un long y se puede aplicar sin boxing
+    private final boolean primitiveSource;
+
+    private LongPipeline(ToLongFunction<? super T> source, LongUnaryOperator operator, boolean primitiveSource) {
+        this.source = source;
+        this.operator = operator;
+        this.primitiveSource = primitiveSource;
+    }
+
+    // Crear pipeline vacío sobre valores long
+    public static LongPipeline<Long> empty() {
+        return EMPTY;
+    }
+
+    // Paso de objeto a long (usado por Pipeline.addToLong)
+    static <T> LongPipeline<T> from(ToLongFunction<? super T> source) {
+        return new LongPipeline<>(source, null, false);
+    }
+
+    // ----------------- Steps -----------------
+
+    // Añadir un paso normal: long -> long
+    public LongPipeline<T> add(LongUnaryOperator mapper) {
+        return append(PrimitiveSteps.longStep(mapper, null, null));
+    }
+
+    // Añadir un paso con alternativa externa
+    public LongPipeline<T> addOrElse(LongUnaryOperator mapper, LongSupplier fallback) {
+        return append(PrimitiveSteps.longStep(mapper, null, fallback));
+    }
+
+    // Añadir un paso con condición y fallback
+    public LongPipeline<T> addSwitch(LongUnaryOperator mapper, LongPredicate condition, LongSupplier fallback) {
+        return append(PrimitiveSteps.longStep(mapper, condition, fallback));
+    }
+
+    private LongPipeline<T> append(LongUnaryOperator step) {
+        return new LongPipeline<>(source, PrimitiveSteps.longChain(operator, step), primitiveSource);
+    }
+
+    // ----------------- Transitions -----------------
+
+    // Paso long -> int
+    public IntPipeline<T> addToInt(LongToIntFunction mapper) {
+        return IntPipeline.from(input -> mapper.applyAsInt(applyAsLong(input)));
+    }
+
+    // Paso long -> double
+    public DoublePipeline<T> addToDouble(LongToDoubleFunction mapper) {
+        return DoublePipeline.from(input -> mapper.applyAsDouble(applyAsLong(input)));
+    }
+
+    // Volver a un pipeline de objetos
+    public <V> Pipeline<T, V> addToObj(LongFunction<? extends V> mapper) {
+        return Pipeline.<T>empty().add(input -> mapper.apply(applyAsLong(input)));
+    }
+
+    // ----------------- Apply -----------------
+
+    // Aplicar pipeline a un objeto
+    public long applyAsLong(T input) {
+        long value = source.applyAsLong(input);
+        return operator == null ? value : operator.applyAsLong(value);
+    }
+
+    // Aplicar pipeline a un long sin boxing (solo pipelines creados con empty())
+    public long applyAsLongFromLong(long input) {
+        PrimitiveSteps.checkPrimitiveSource(primitiveSource, "long");
+        return operator == null ? input : operator.applyAsLong(input);
+    }
+
+    // Aplicar pipeline a un array de long, respetando el orden de entrada
+    public long[] applyAll(long[] inputs) {
+        PrimitiveSteps.checkPrimitiveSource(primitiveSource, "long");
+        long[] result = new long[inputs.length];
+        if (operator == null) {
+            System.arraycopy(inputs, 0, result, 0, inputs.length);
+            return result;
+        }
+        for (int i = 0; i < inputs.length; i++) {
+            result[i] = operator.applyAsLong(inputs[i]);
+        }
+        return result;
+    }
+
+    // Devuelve el pipeline como una función ToLongFunction
+    public ToLongFunction<T> compile() {
+        ToLongFunction<? super T> first = source;
+        LongUnaryOperator rest = operator;
+        if (rest == null) return first::applyAsLong;
+        return input -> rest.applyAsLong(first.applyAsLong(input));
+    }
+}
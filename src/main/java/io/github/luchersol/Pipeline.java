@@ -1,15 +1,54 @@
 package io.github.luchersol;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 public class Pipeline<T, R> {
-    private final List<Step<?, ?>> steps = new ArrayList<>();
+    // Por debajo de este tamaño no compensa repartir el lote entre hilos
+    private static final int PARALLEL_THRESHOLD = 1024;
 
-    private Pipeline() { }
+    // Hilos virtuales para los pasos bloqueantes (BD, caché, ...); el executor se crea al usarse por primera vez
+    private static final class VirtualThreads {
+        static final Executor EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // Nodo persistente: cada pipeline apunta a su último paso y comparte el prefijo con el pipeline del que deriva
+    private record Link(Step<?, ?> step, Link previous, int size) { }
+
+    private static final Step<?, ?>[] NO_STEPS = new Step<?, ?>[0];
+
+    private final Link last;
+
+    // Vista plana de los pasos, construida la primera vez que se aplica el pipeline
+    private volatile Step<?, ?>[] steps;
+
+    // Solo los pipelines instrumentados tienen métricas
+    private PipelineMetrics metrics;
+
+    private Pipeline(Link last) {
+        this.last = last;
+    }
 
     // Step genérico: T -> R
     private static class Step<I, O> {
@@ -40,44 +79,514 @@ public class Pipeline<T, R> {
             }
             return result;
         }
+
+        // Un paso síncrono se completa en el mismo hilo
+        CompletableFuture<Object> applyAsync(Object input) {
+            return CompletableFuture.completedFuture(apply(input));
+        }
+
+        // Copia del paso que registra contadores, latencia y eventos JFR
+        Step<I, O> instrument(PipelineMetrics.StepMetrics stepMetrics) {
+            return new Step<I, O>(stepMetrics.wrapMapper(mapper), stepMetrics.wrapFallback(fallback), stepMetrics.wrapCondition(condition)) {
+                @Override
+                O apply(Object input) {
+                    PipelineMetrics.StepEvent event = stepMetrics.begin();
+                    long start = System.nanoTime();
+                    try {
+                        return super.apply(input);
+                    } finally {
+                        stepMetrics.end(event, System.nanoTime() - start);
+                    }
+                }
+            };
+        }
+    }
+
+    // Step asíncrono: T -> CompletionStage<R>, con fallback y condición sobre el resultado
+    private static class AsyncStep<I, O> extends Step<I, O> {
+        final Function<? super I, ? extends CompletionStage<? extends O>> asyncMapper;
+
+        AsyncStep(Function<? super I, ? extends CompletionStage<? extends O>> asyncMapper, Supplier<? extends O> fallback, Predicate<? super O> condition) {
+            super(null, fallback, condition);
+            this.asyncMapper = asyncMapper;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        O apply(Object input) {
+            return (O) join(applyAsync(input));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Object> applyAsync(Object input) {
+            CompletableFuture<? extends O> future;
+            try {
+                future = ((Function<Object, ? extends CompletionStage<? extends O>>) asyncMapper).apply(input).toCompletableFuture();
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            return future.handle((result, error) -> {
+                if (error == null) {
+                    try {
+                        if (condition == null || condition.test(result)) return result;
+                        return fallback.get();
+                    } catch (Exception e) {
+                        error = e;
+                    }
+                }
+                if (fallback != null) return fallback.get();
+                throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+            });
+        }
+
+        @Override
+        Step<I, O> instrument(PipelineMetrics.StepMetrics stepMetrics) {
+            return new AsyncStep<I, O>(stepMetrics.wrapAsyncMapper(asyncMapper), stepMetrics.wrapFallback(fallback), stepMetrics.wrapCondition(condition)) {
+                @Override
+                CompletableFuture<Object> applyAsync(Object input) {
+                    PipelineMetrics.StepEvent event = stepMetrics.begin();
+                    long start = System.nanoTime();
+                    return super.applyAsync(input).whenComplete((result, error) -> stepMetrics.end(event, System.nanoTime() - start));
+                }
+            };
+        }
+    }
+
+    // Step memoizado: los resultados del mapper se guardan en una caché acotada
+    private static class CachedStep<I, O> extends Step<I, O> {
+        final StepCache<Object, O> cache;
+
+        CachedStep(Function<? super I, ? extends O> mapper, Supplier<? extends O> fallback, Predicate<? super O> condition, StepCache<Object, O> cache) {
+            super(mapper, fallback, condition);
+            this.cache = cache;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        O apply(Object input) {
+            Object cached = cache.get(input);
+            if (cached != StepCache.MISS) return (O) cached;
+
+            O result;
+            boolean fromFallback = false;
+            try {
+                result = ((Function<Object, O>) mapper).apply(input);
+                if (condition != null && !condition.test(result)) {
+                    fromFallback = true;
+                    result = fallback.get();
+                }
+            } catch (Exception e) {
+                if (fallback != null) {
+                    fromFallback = true;
+                    result = fallback.get();
+                } else {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            // Los valores del fallback solo se guardan si la CacheSpec lo pide
+            if (!fromFallback || cache.getSpec().isCacheFallbacks()) cache.put(input, result);
+            return result;
+        }
+
+        @Override
+        Step<I, O> instrument(PipelineMetrics.StepMetrics stepMetrics) {
+            return new CachedStep<I, O>(stepMetrics.wrapMapper(mapper), stepMetrics.wrapFallback(fallback), stepMetrics.wrapCondition(condition), cache) {
+                @Override
+                O apply(Object input) {
+                    PipelineMetrics.StepEvent event = stepMetrics.begin();
+                    long start = System.nanoTime();
+                    try {
+                        return super.apply(input);
+                    } finally {
+                        stepMetrics.end(event, System.nanoTime() - start);
+                    }
+                }
+            };
+        }
     }
 
     // Crear pipeline vacío
     public static <T> Pipeline<T, T> empty() {
-        return new Pipeline<>();
+        return new Pipeline<>(null);
     }
 
     // Añadir un paso normal: T -> R
     public <V> Pipeline<T, V> add(Function<? super R, ? extends V> mapper) {
-        Pipeline<T, V> next = new Pipeline<>();
-        next.steps.addAll(this.steps);
-        next.steps.add(new Step<>(mapper, null, null));
-        return next;
+        return append(new Step<R, V>(mapper, null, null));
     }
 
     // Añadir un paso con alternativa externa
     public <V> Pipeline<T, V> addOrElse(Function<? super R, ? extends V> mapper, Supplier<? extends V> fallback) {
-        Pipeline<T, V> next = new Pipeline<>();
-        next.steps.addAll(this.steps);
-        next.steps.add(new Step<R,V>(mapper, fallback, null));
-        return next;
+        return append(new Step<R, V>(mapper, fallback, null));
     }
 
     // Añadir un paso con condición y fallback
     public <V> Pipeline<T, V> addSwitch(Function<? super R, ? extends V> mapper, Predicate<? super V> condition, Supplier<? extends V> fallback) {
-        Pipeline<T, V> next = new Pipeline<>();
-        next.steps.addAll(this.steps);
-        next.steps.add(new Step<R,V>(mapper, fallback, condition));
-        return next;
+        return append(new Step<R, V>(mapper, fallback, condition));
+    }
+
+    // Añadir un paso que propaga null sin llamar al mapper (sin excepciones)
+    public <V> Pipeline<T, V> addNullSafe(Function<? super R, ? extends V> mapper) {
+        return add(nullSafe(mapper));
+    }
+
+    // Añadir un paso donde el valor ausente es un caso esperado: entrada o resultado null -> fallback, sin lanzar
+    public <V> Pipeline<T, V> addNullSafe(Function<? super R, ? extends V> mapper, Supplier<? extends V> fallback) {
+        return addSwitch(nullSafe(mapper), Objects::nonNull, fallback);
+    }
+
+    // Añadir un paso que devuelve Optional: vacío -> fallback, sin lanzar
+    public <V> Pipeline<T, V> addOptional(Function<? super R, ? extends Optional<? extends V>> mapper, Supplier<? extends V> fallback) {
+        return addNullSafe(r -> mapper.apply(r).orElse(null), fallback);
+    }
+
+    private static <I, O> Function<I, O> nullSafe(Function<? super I, ? extends O> mapper) {
+        return input -> input == null ? null : mapper.apply(input);
+    }
+
+    // Pasar a un pipeline primitivo: R -> int
+    public IntPipeline<T> addToInt(ToIntFunction<? super R> mapper) {
+        Function<T, R> compiled = compile();
+        return IntPipeline.from(input -> {
+            R value = compiled.apply(input);
+            try {
+                return mapper.applyAsInt(value);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    // Pasar a un pipeline primitivo con alternativa externa
+    public IntPipeline<T> addToIntOrElse(ToIntFunction<? super R> mapper, IntSupplier fallback) {
+        Function<T, R> compiled = compile();
+        return IntPipeline.from(input -> {
+            R value = compiled.apply(input);
+            try {
+                return mapper.applyAsInt(value);
+            } catch (Exception e) {
+                return fallback.getAsInt();
+            }
+        });
+    }
+
+    // Pasar a un pipeline primitivo: R -> long
+    public LongPipeline<T> addToLong(ToLongFunction<? super R> mapper) {
+        Function<T, R> compiled = compile();
+        return LongPipeline.from(input -> {
+            R value = compiled.apply(input);
+            try {
+                return mapper.applyAsLong(value);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    // Pasar a un pipeline primitivo con alternativa externa
+    public LongPipeline<T> addToLongOrElse(ToLongFunction<? super R> mapper, LongSupplier fallback) {
+        Function<T, R> compiled = compile();
+        return LongPipeline.from(input -> {
+            R value = compiled.apply(input);
+            try {
+                return mapper.applyAsLong(value);
+            } catch (Exception e) {
+                return fallback.getAsLong();
+            }
+        });
+    }
+
+    // Pasar a un pipeline primitivo: R -> double
+    public DoublePipeline<T> addToDouble(ToDoubleFunction<? super R> mapper) {
+        Function<T, R> compiled = compile();
+        return DoublePipeline.from(input -> {
+            R value = compiled.apply(input);
+            try {
+                return mapper.applyAsDouble(value);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    // Pasar a un pipeline primitivo con alternativa externa
+    public DoublePipeline<T> addToDoubleOrElse(ToDoubleFunction<? super R> mapper, DoubleSupplier fallback) {
+        Function<T, R> compiled = compile();
+        return DoublePipeline.from(input -> {
+            R value = compiled.apply(input);
+            try {
+                return mapper.applyAsDouble(value);
+            } catch (Exception e) {
+                return fallback.getAsDouble();
+            }
+        });
+    }
+
+    // Añadir un paso memoizado (mappers puros y costosos)
+    public <V> Pipeline<T, V> addCached(Function<? super R, ? extends V> mapper, CacheSpec spec) {
+        return append(new CachedStep<R, V>(mapper, null, null, new StepCache<>(spec)));
+    }
+
+    // Añadir un paso memoizado con alternativa externa
+    public <V> Pipeline<T, V> addCachedOrElse(Function<? super R, ? extends V> mapper, Supplier<? extends V> fallback, CacheSpec spec) {
+        return append(new CachedStep<R, V>(mapper, fallback, null, new StepCache<>(spec)));
+    }
+
+    // Añadir un paso memoizado con condición y fallback
+    public <V> Pipeline<T, V> addCachedSwitch(Function<? super R, ? extends V> mapper, Predicate<? super V> condition, Supplier<? extends V> fallback, CacheSpec spec) {
+        return append(new CachedStep<R, V>(mapper, fallback, condition, new StepCache<>(spec)));
+    }
+
+    // Añadir un paso asíncrono (p.ej. una consulta no bloqueante)
+    public <V> Pipeline<T, V> addAsync(Function<? super R, ? extends CompletionStage<? extends V>> mapper) {
+        return append(new AsyncStep<R, V>(mapper, null, null));
+    }
+
+    // Añadir un paso asíncrono con alternativa externa si falla
+    public <V> Pipeline<T, V> addAsyncOrElse(Function<? super R, ? extends CompletionStage<? extends V>> mapper, Supplier<? extends V> fallback) {
+        return append(new AsyncStep<R, V>(mapper, fallback, null));
+    }
+
+    // Añadir un paso asíncrono con condición y fallback
+    public <V> Pipeline<T, V> addAsyncSwitch(Function<? super R, ? extends CompletionStage<? extends V>> mapper, Predicate<? super V> condition, Supplier<? extends V> fallback) {
+        return append(new AsyncStep<R, V>(mapper, fallback, condition));
+    }
+
+    // Añadir un paso bloqueante que se ejecuta en un hilo virtual
+    public <V> Pipeline<T, V> addBlocking(Function<? super R, ? extends V> mapper) {
+        return addBlocking(mapper, VirtualThreads.EXECUTOR);
+    }
+
+    // Añadir un paso bloqueante que se ejecuta en el executor indicado
+    public <V> Pipeline<T, V> addBlocking(Function<? super R, ? extends V> mapper, Executor executor) {
+        return addAsync(r -> CompletableFuture.supplyAsync(() -> mapper.apply(r), executor));
+    }
+
+    // Añadir un paso bloqueante en un hilo virtual con alternativa externa
+    public <V> Pipeline<T, V> addBlockingOrElse(Function<? super R, ? extends V> mapper, Supplier<? extends V> fallback) {
+        return addAsyncOrElse(r -> CompletableFuture.supplyAsync(() -> mapper.apply(r), VirtualThreads.EXECUTOR), fallback);
+    }
+
+    // Extensión en O(1): el nuevo pipeline enlaza con el último paso de este
+    private <V> Pipeline<T, V> append(Step<R, V> step) {
+        return new Pipeline<>(new Link(step, last, size() + 1));
+    }
+
+    private int size() {
+        return last == null ? 0 : last.size;
+    }
+
+    private Step<?, ?>[] steps() {
+        Step<?, ?>[] result = steps;
+        if (result == null) {
+            result = size() == 0 ? NO_STEPS : new Step<?, ?>[size()];
+            for (Link link = last; link != null; link = link.previous) {
+                result[link.size - 1] = link.step;
+            }
+            steps = result;
+        }
+        return result;
+    }
+
+    // Copia instrumentada del pipeline: los pasos añadidos después no se miden
+    public Pipeline<T, R> instrumented(String name) {
+        Step<?, ?>[] current = steps();
+        PipelineMetrics pipelineMetrics = new PipelineMetrics(name, current.length);
+        Link link = null;
+        for (int i = 0; i < current.length; i++) {
+            link = new Link(current[i].instrument(pipelineMetrics.step(i)), link, i + 1);
+        }
+        Pipeline<T, R> result = new Pipeline<>(link);
+        result.metrics = pipelineMetrics;
+        return result;
+    }
+
+    public Optional<PipelineMetrics> metrics() {
+        return Optional.ofNullable(metrics);
+    }
+
+    // Cachés de los pasos memoizados, en el orden del pipeline
+    public List<StepCache<?, ?>> caches() {
+        List<StepCache<?, ?>> result = new ArrayList<>();
+        for (Step<?, ?> step : steps()) {
+            if (step instanceof CachedStep<?, ?> cached) result.add(cached.cache);
+        }
+        return result;
     }
 
     // Aplicar pipeline a un objeto
     @SuppressWarnings("unchecked")
     public R apply(T input) {
         Object current = input;
-        for (Step<?, ?> step : steps) {
+        for (Step<?, ?> step : steps()) {
             current = step.apply(current);
         }
         return (R) current;
     }
+
+    // Compilar el pipeline en una única función compuesta (sin recorrer la lista en cada llamada)
+    @SuppressWarnings("unchecked")
+    public Function<T, R> compile() {
+        Step<?, ?>[] current = steps();
+        if (current.length == 0) return input -> (R) input;
+
+        return (Function<T, R>) (Function<?, ?>) new Fused(current, 0);
+    }
+
+    // Pipeline compilado en una sola función, sin un lambda por paso. Cada nodo ejecuta en línea
+    // hasta SLOTS pasos, cada uno en su propia llamada para que el JIT vea un único tipo de mapper
+    // por posición y pueda inlinearlo junto con su fallback; los pasos asíncronos, memoizados o
+    // instrumentados se llaman como una función opaca
+    @SuppressWarnings("unchecked")
+    private static final class Fused implements Function<Object, Object> {
+        private static final int SLOTS = 4;
+
+        private final int count;
+        private final Function<Object, Object>[] mappers;
+        private final Predicate<Object>[] conditions;
+        private final Supplier<?>[] fallbacks;
+        private final boolean[] opaque;
+        private final Fused next;
+
+        Fused(Step<?, ?>[] steps, int from) {
+            count = Math.min(SLOTS, steps.length - from);
+            mappers = (Function<Object, Object>[]) new Function<?, ?>[SLOTS];
+            conditions = (Predicate<Object>[]) new Predicate<?>[SLOTS];
+            fallbacks = new Supplier<?>[SLOTS];
+            opaque = new boolean[SLOTS];
+            for (int i = 0; i < count; i++) {
+                Step<?, ?> step = steps[from + i];
+                if (step.getClass() == Step.class) {
+                    mappers[i] = (Function<Object, Object>) step.mapper;
+                    conditions[i] = (Predicate<Object>) step.condition;
+                    fallbacks[i] = step.fallback;
+                } else {
+                    mappers[i] = step::apply;
+                    opaque[i] = true;
+                }
+            }
+            next = from + SLOTS < steps.length ? new Fused(steps, from + SLOTS) : null;
+        }
+
+        // Cada posición repite el mismo código a propósito: una llamada distinta por paso
+        @Override
+        public Object apply(Object input) {
+            Object value = input;
+            try {
+                value = accept(0, mappers[0].apply(value));
+            } catch (Exception e) {
+                value = recover(0, e);
+            }
+            if (count == 1) return value;
+            try {
+                value = accept(1, mappers[1].apply(value));
+            } catch (Exception e) {
+                value = recover(1, e);
+            }
+            if (count == 2) return value;
+            try {
+                value = accept(2, mappers[2].apply(value));
+            } catch (Exception e) {
+                value = recover(2, e);
+            }
+            if (count == 3) return value;
+            try {
+                value = accept(3, mappers[3].apply(value));
+            } catch (Exception e) {
+                value = recover(3, e);
+            }
+            return next == null ? value : next.apply(value);
+        }
+
+        private Object accept(int slot, Object result) {
+            Predicate<Object> condition = conditions[slot];
+            return condition == null || condition.test(result) ? result : fallbacks[slot].get();
+        }
+
+        private Object recover(int slot, Exception e) {
+            Supplier<?> fallback = fallbacks[slot];
+            if (fallback != null) return fallback.get();
+            throw opaque[slot] && e instanceof RuntimeException re ? re : new RuntimeException(e);
+        }
+    }
+
+    // Espera el resultado y relanza la excepción original del paso en lugar de la CompletionException
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    // Aplicar pipeline a un lote de objetos, respetando el orden de entrada
+    public List<R> applyAll(Collection<? extends T> inputs) {
+        Function<T, R> compiled = compile();
+        List<R> result = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            result.add(compiled.apply(input));
+        }
+        return result;
+    }
+
+    public List<R> applyAll(T[] inputs) {
+        return applyAll(Arrays.asList(inputs));
+    }
+
+    // Aplicar pipeline a un lote repartiendo bloques contiguos entre hilos del executor
+    @SuppressWarnings("unchecked")
+    public List<R> applyParallel(Collection<? extends T> inputs, Executor executor) {
+        int n = inputs.size();
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors(), n / PARALLEL_THRESHOLD);
+        if (chunks <= 1) return applyAll(inputs);
+
+        Function<T, R> compiled = compile();
+        Object[] source = inputs.toArray();
+        Object[] results = new Object[n];
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int from = c * chunkSize;
+            int to = Math.min(n, from + chunkSize);
+            tasks[c] = CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    results[i] = compiled.apply((T) source[i]);
+                }
+            }, executor);
+        }
+
+        join(CompletableFuture.allOf(tasks));
+        // La lista adopta el array de resultados sin copiarlo (tamaño fijo)
+        return (List<R>) Arrays.asList(results);
+    }
+
+    // Aplicar pipeline de forma asíncrona: los pasos se encadenan al completarse el anterior
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<R> applyAsync(T input) {
+        CompletableFuture<Object> current = CompletableFuture.completedFuture(input);
+        for (Step<?, ?> step : steps()) {
+            current = current.thenCompose(step::applyAsync);
+        }
+        return (CompletableFuture<R>) current;
+    }
+
+    // Operador perezoso Stream<T> -> Stream<R>: cada elemento atraviesa los pasos al consumirse
+    public Function<Stream<? extends T>, Stream<R>> asStreamOperator() {
+        Function<T, R> compiled = compile();
+        return stream -> stream.map(compiled);
+    }
+
+    // Adaptador Flow.Processor con demanda acotada
+    public PipelineProcessor<T, R> asProcessor() {
+        return asProcessor(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    public PipelineProcessor<T, R> asProcessor(Executor executor, int maxBufferCapacity) {
+        return new PipelineProcessor<>(compile(), executor, maxBufferCapacity);
+    }
 }
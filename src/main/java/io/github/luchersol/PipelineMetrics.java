@@ -0,0 +1,240 @@
+package io.github.luchersol;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * PipelineMetrics holds the per-step counters and latency histograms of an instrumented {@link Pipeline}.
+ * Recording is lock-free and, for synchronous steps, allocation-free: a JFR event is only created while a recording
+ * has the step event enabled. Pipelines that are not instrumented carry no metrics at all.
+ */
+public final class PipelineMetrics {
+
+    /**
+     * Linear sub-buckets per power of two in the latency histogram (~6% relative precision).
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (64 - SUB_BUCKET_BITS);
+
+    // Tipo de evento cacheado: sólo se crean eventos si hay una grabación JFR que lo tenga activado
+    private static final EventType STEP_EVENT_TYPE = EventType.getEventType(StepEvent.class);
+
+    private final String name;
+    private final StepMetrics[] steps;
+
+    PipelineMetrics(String name, int stepCount) {
+        this.name = name;
+        this.steps = new StepMetrics[stepCount];
+        for (int i = 0; i < stepCount; i++) {
+            steps[i] = new StepMetrics(name, i);
+        }
+    }
+
+    StepMetrics step(int index) {
+        return steps[index];
+    }
+
+    /**
+     * Returns the name given to the instrumented pipeline.
+     *
+     * @return the pipeline name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Takes a point-in-time copy of the metrics of every step, in pipeline order.
+     *
+     * @return one snapshot per step
+     */
+    public List<StepSnapshot> snapshot() {
+        List<StepSnapshot> result = new ArrayList<>(steps.length);
+        for (StepMetrics step : steps) {
+            result.add(step.snapshot());
+        }
+        return result;
+    }
+
+    /**
+     * Immutable view of the metrics of a single step.
+     *
+     * @param step             the position of the step in the pipeline
+     * @param invocations      the number of times the step was applied
+     * @param exceptions       the number of times the mapper failed
+     * @param fallbacks        the number of times the fallback supplied the result
+     * @param conditionRejects the number of results rejected by the condition
+     * @param totalNanos       the accumulated latency in nanoseconds
+     * @param maxNanos         the highest recorded latency in nanoseconds
+     * @param histogram        the latency histogram buckets
+     */
+    public record StepSnapshot(int step, long invocations, long exceptions, long fallbacks, long conditionRejects,
+                               long totalNanos, long maxNanos, long[] histogram) {
+
+        /**
+         * Returns the mean latency of the step.
+         *
+         * @return the mean latency in nanoseconds, or 0 if the step was never applied
+         */
+        public double meanNanos() {
+            return invocations == 0 ? 0 : (double) totalNanos / invocations;
+        }
+
+        /**
+         * Returns the latency below which the given percentage of invocations fall.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the latency in nanoseconds, within the precision of the histogram
+         */
+        public long percentileNanos(double percentile) {
+            Checker.check(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+            long total = 0;
+            for (long count : histogram) total += count;
+            if (total == 0) return 0;
+
+            long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= target) return Math.min(highestValue(i), maxNanos);
+            }
+            return maxNanos;
+        }
+    }
+
+    // ----------------- Histogram buckets -----------------
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) Math.max(0, value);
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + sub;
+    }
+
+    static long highestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long sub = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + sub + 1) << shift) - 1;
+    }
+
+    // ----------------- Per-step recorder -----------------
+
+    static final class StepMetrics {
+        private final String pipeline;
+        private final int index;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+        private final LongAdder conditionRejects = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+
+        StepMetrics(String pipeline, int index) {
+            this.pipeline = pipeline;
+            this.index = index;
+        }
+
+        // null si el evento JFR no está activado: en ese caso no se reserva nada
+        StepEvent begin() {
+            if (!STEP_EVENT_TYPE.isEnabled()) return null;
+            StepEvent event = new StepEvent();
+            event.begin();
+            return event;
+        }
+
+        void end(StepEvent event, long nanos) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(bucketIndex(nanos));
+
+            if (event == null) return;
+            event.end();
+            if (event.shouldCommit()) {
+                event.pipeline = pipeline;
+                event.step = index;
+                event.commit();
+            }
+        }
+
+        <I, O> Function<I, O> wrapMapper(Function<I, O> mapper) {
+            return input -> {
+                try {
+                    return mapper.apply(input);
+                } catch (Exception e) {
+                    // Igual que Step: también cuentan las excepciones comprobadas lanzadas de forma encubierta
+                    exceptions.increment();
+                    throw e;
+                }
+            };
+        }
+
+        <I, O> Function<I, CompletionStage<? extends O>> wrapAsyncMapper(Function<I, ? extends CompletionStage<? extends O>> mapper) {
+            return input -> {
+                try {
+                    return mapper.apply(input).whenComplete((result, error) -> {
+                        if (error != null) exceptions.increment();
+                    });
+                } catch (Exception e) {
+                    exceptions.increment();
+                    throw e;
+                }
+            };
+        }
+
+        <O> Supplier<O> wrapFallback(Supplier<O> fallback) {
+            if (fallback == null) return null;
+            return () -> {
+                fallbacks.increment();
+                return fallback.get();
+            };
+        }
+
+        <O> Predicate<O> wrapCondition(Predicate<O> condition) {
+            if (condition == null) return null;
+            return result -> {
+                boolean accepted = condition.test(result);
+                if (!accepted) conditionRejects.increment();
+                return accepted;
+            };
+        }
+
+        StepSnapshot snapshot() {
+            long[] buckets = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new StepSnapshot(index, invocations.sum(), exceptions.sum(), fallbacks.sum(),
+                    conditionRejects.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+        }
+    }
+
+    // ----------------- JFR -----------------
+
+    @Name("io.github.luchersol.PipelineStep")
+    @Label("Pipeline Step")
+    @Category("JavaUtils")
+    static final class StepEvent extends Event {
+        @Label("Pipeline")
+        String pipeline;
+
+        @Label("Step")
+        int step;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.luchersol;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+/**
+ * Flow.Processor that pushes every received item through a compiled {@link Pipeline}.
+ * Demand towards the upstream publisher is requested one item at a time and the
+ * downstream buffer is bounded, so a slow subscriber throttles the source instead
+ * of letting items pile up in memory.
+ *
+ * @param <T> the type of items received from upstream
+ * @param <R> the type of items published downstream
+ */
+public class PipelineProcessor<T, R> extends SubmissionPublisher<R> implements Flow.Processor<T, R> {
+
+    private final Function<T, R> function;
+    private Flow.Subscription subscription;
+
+    PipelineProcessor(Function<T, R> function, Executor executor, int maxBufferCapacity) {
+        super(executor, maxBufferCapacity);
+        this.function = function;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(T item) {
+        R result;
+        try {
+            result = function.apply(item);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            closeExceptionally(e);
+            return;
+        }
+        // submit bloquea mientras el buffer de algún subscriber esté lleno
+        submit(result);
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        close();
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.luchersol;
 
+import java.util.function.Function;
+
 public class PipelineTest {
 
     // -----------------------------
@@ -63,6 +65,82 @@ public class PipelineTest {
 
         System.out.println("Resultado persona1: " + id1);
         System.out.println("Resultado persona2: " + id2);
+
+        // Versión compilada: mismos resultados sin recorrer la lista de pasos
+        Function<Persona, Long> compiled = pipeline.compile();
+        System.out.println("Compilado persona1: " + compiled.apply(persona1));
+        System.out.println("Compilado persona2: " + compiled.apply(persona2));
+
+        // Versión null-safe: el valor ausente va al fallback sin lanzar ni capturar NullPointerException
+        Pipeline<Persona, Long> nullSafe = Pipeline.<Persona>empty()
+                .addNullSafe(Persona::getInnerPerson, () -> new InnerPerson(null))
+                .addNullSafe(InnerPerson::getId, () -> -1L);
+
+        System.out.println("Null-safe persona1: " + nullSafe.apply(persona1)); // 42
+        System.out.println("Null-safe persona2: " + nullSafe.apply(persona2)); // -1
+
+        // Versión primitiva: a partir del id se trabaja con long sin boxing
+        LongPipeline<Persona> ids = Pipeline.<Persona>empty()
+                .addNullSafe(Persona::getInnerPerson, () -> new InnerPerson(null))
+                .addToLongOrElse(InnerPerson::getId, () -> -1L)
+                .addSwitch(id -> id * 10, id -> id > 0, () -> -1L);
+
+        System.out.println("Primitivo persona1: " + ids.applyAsLong(persona1)); // 420
+        System.out.println("Primitivo persona2: " + ids.applyAsLong(persona2)); // -1
+
+        // Tiempos: mitad de personas con InnerPerson y mitad sin él
+        Persona[] inputs = new Persona[1024];
+        for (int i = 0; i < inputs.length; i++)
+            inputs[i] = i % 2 == 0 ? new Persona(new InnerPerson((long) i + 1), (long) i) : new Persona(null, (long) i);
+
+        compare("Interpretado", pipeline::apply, "Compilado", compiled, inputs);
+
+        // Fallback por excepción: getId sobre un InnerPerson nulo lanza NullPointerException
+        Pipeline<Persona, Long> exceptions = Pipeline.<Persona>empty()
+                .add(Persona::getInnerPerson)
+                .addOrElse(InnerPerson::getId, () -> -1L);
+        Pipeline<Persona, Long> checks = Pipeline.<Persona>empty()
+                .addNullSafe(Persona::getInnerPerson)
+                .addNullSafe(InnerPerson::getId, () -> -1L);
+
+        compare("Con excepciones", exceptions::apply, "Null-safe", checks::apply, inputs);
+    }
+
+    // -----------------------------
+    // Medición de tiempos
+    // -----------------------------
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int CALLS_PER_ROUND = 1_000_000;
+
+    // Evita que el JIT elimine las llamadas cuyo resultado no se usa
+    private static volatile int sink;
+
+    // Mejor tiempo por llamada de cada versión. Las rondas se alternan, también al calentar el JIT,
+    // para que ninguna de las dos se mida con un perfil que sólo ha visto la otra
+    static <T> void compare(String baselineLabel, Function<? super T, ?> baseline, String candidateLabel, Function<? super T, ?> candidate, T[] inputs) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round(baseline, inputs);
+            round(candidate, inputs);
+        }
+        long bestBaseline = Long.MAX_VALUE, bestCandidate = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            bestBaseline = Math.min(bestBaseline, round(baseline, inputs));
+            bestCandidate = Math.min(bestCandidate, round(candidate, inputs));
+        }
+        System.out.printf("%s: %.1f ns/llamada%n", baselineLabel, (double) bestBaseline / CALLS_PER_ROUND);
+        System.out.printf("%s: %.1f ns/llamada%n", candidateLabel, (double) bestCandidate / CALLS_PER_ROUND);
+        System.out.printf("%s / %s: %.2f%n", candidateLabel, baselineLabel, (double) bestCandidate / bestBaseline);
+    }
+
+    private static <T> long round(Function<? super T, ?> f, T[] inputs) {
+        int hash = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLS_PER_ROUND; i++)
+            hash += f.apply(inputs[i & (inputs.length - 1)]).hashCode();
+        long elapsed = System.nanoTime() - start;
+        sink += hash;
+        return elapsed;
     }
 }
 
@@ -0,0 +1,76 @@
+package io.github.luchersol;
+
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+// Lógica común de IntPipeline, LongPipeline y DoublePipeline: los pasos siguen las mismas reglas
+// que Pipeline.Step (excepción -> fallback si lo hay; sin fallback se envuelve en RuntimeException)
+final class PrimitiveSteps {
+
+    private PrimitiveSteps() { }
+
+    static void checkPrimitiveSource(boolean primitiveSource, String type) {
+        Checker.check(primitiveSource, "La entrada del pipeline no es de tipo %s", type);
+    }
+
+    // ----------------- int -----------------
+
+    static IntUnaryOperator intStep(IntUnaryOperator mapper, IntPredicate condition, IntSupplier fallback) {
+        return input -> {
+            try {
+                int result = mapper.applyAsInt(input);
+                return condition == null || condition.test(result) ? result : fallback.getAsInt();
+            } catch (Exception e) {
+                if (fallback != null) return fallback.getAsInt();
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    static IntUnaryOperator intChain(IntUnaryOperator previous, IntUnaryOperator step) {
+        return previous == null ? step : input -> step.applyAsInt(previous.applyAsInt(input));
+    }
+
+    // ----------------- long -----------------
+
+    static LongUnaryOperator longStep(LongUnaryOperator mapper, LongPredicate condition, LongSupplier fallback) {
+        return input -> {
+            try {
+                long result = mapper.applyAsLong(input);
+                return condition == null || condition.test(result) ? result : fallback.getAsLong();
+            } catch (Exception e) {
+                if (fallback != null) return fallback.getAsLong();
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    static LongUnaryOperator longChain(LongUnaryOperator previous, LongUnaryOperator step) {
+        return previous == null ? step : input -> step.applyAsLong(previous.applyAsLong(input));
+    }
+
+    // ----------------- double -----------------
+
+    static DoubleUnaryOperator doubleStep(DoubleUnaryOperator mapper, DoublePredicate condition, DoubleSupplier fallback) {
+        return input -> {
+            try {
+                double result = mapper.applyAsDouble(input);
+                return condition == null || condition.test(result) ? result : fallback.getAsDouble();
+            } catch (Exception e) {
+                if (fallback != null) return fallback.getAsDouble();
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    static DoubleUnaryOperator doubleChain(DoubleUnaryOperator previous, DoubleUnaryOperator step) {
+        return previous == null ? step : input -> step.applyAsDouble(previous.applyAsDouble(input));
+    }
+}
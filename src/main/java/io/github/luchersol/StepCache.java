@@ -0,0 +1,422 @@
+package io.github.luchersol;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StepCache is the bounded, thread-safe memo table behind a cached {@link Pipeline} step.
+ * Keys are spread over independently locked segments, each one applying the eviction policy
+ * of its {@link CacheSpec} to its share of the maximum size.
+ *
+ * @param <K> the type of the step input
+ * @param <V> the type of the step result
+ */
+public final class StepCache<K, V> {
+
+    /**
+     * Returned by {@link #get(Object)} when the key is not cached, since {@code null} is a valid value.
+     */
+    static final Object MISS = new Object();
+
+    /**
+     * Minimum number of entries per segment before the cache is split into several segments.
+     */
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final CacheSpec spec;
+    private final long ttlNanos;
+    private final Segment<K, V>[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * Point-in-time statistics of a cache.
+     *
+     * @param hits        the number of lookups that found a live entry
+     * @param misses      the number of lookups that did not
+     * @param evictions   the number of entries dropped by the eviction policy
+     * @param expirations the number of entries dropped because their time-to-live elapsed
+     * @param size        the current number of entries
+     */
+    public record Stats(long hits, long misses, long evictions, long expirations, long size) {
+
+        /**
+         * Returns the fraction of lookups that were hits.
+         *
+         * @return the hit rate, or 0 if there were no lookups
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    StepCache(CacheSpec spec) {
+        this.spec = spec;
+        this.ttlNanos = spec.getExpireAfterWrite() == null ? -1 : spec.getExpireAfterWrite().toNanos();
+
+        int count = 1;
+        int cores = Runtime.getRuntime().availableProcessors();
+        while (count < cores && spec.getMaximumSize() / (count * 2L) >= MIN_SEGMENT_SIZE) count *= 2;
+
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[count];
+        long base = spec.getMaximumSize() / count;
+        long extra = spec.getMaximumSize() % count;
+        for (int i = 0; i < count; i++) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE, base + (i < extra ? 1 : 0));
+            segments[i] = switch (spec.getEviction()) {
+                case LRU -> new LruSegment<>(capacity);
+                case LFU -> new LfuSegment<>(capacity);
+                case TINY_LFU -> new TinyLfuSegment<>(capacity);
+            };
+        }
+    }
+
+    public CacheSpec getSpec() {
+        return spec;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size());
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    // ----------------- Lookup -----------------
+
+    Object get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Node<V> node = segment.get(key);
+            if (node != null && ttlNanos >= 0 && System.nanoTime() - node.writeNanos > ttlNanos) {
+                segment.remove(key);
+                expirations.increment();
+                node = null;
+            }
+            if (node == null) {
+                misses.increment();
+                return MISS;
+            }
+            hits.increment();
+            return node.value;
+        }
+    }
+
+    void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            int evicted = segment.put(key, new Node<>(value, System.nanoTime()));
+            if (evicted > 0) evictions.add(evicted);
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        if (segments.length == 1) return segments[0];
+        return segments[spread(key) & (segments.length - 1)];
+    }
+
+    private static int spread(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // ----------------- Segments -----------------
+
+    private static final class Node<V> {
+        final V value;
+        final long writeNanos;
+        int frequency = 1;
+
+        Node(V value, long writeNanos) {
+            this.value = value;
+            this.writeNanos = writeNanos;
+        }
+    }
+
+    // Todas las operaciones se llaman con el monitor del segmento tomado
+    private abstract static class Segment<K, V> {
+        final int capacity;
+
+        Segment(int capacity) {
+            this.capacity = Math.max(1, capacity);
+        }
+
+        abstract Node<V> get(K key);
+
+        // Devuelve el número de entradas expulsadas
+        abstract int put(K key, Node<V> node);
+
+        abstract void remove(K key);
+
+        abstract int size();
+
+        abstract void clear();
+    }
+
+    private static final class LruSegment<K, V> extends Segment<K, V> {
+        private final LinkedHashMap<K, Node<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+
+        LruSegment(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        Node<V> get(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        int put(K key, Node<V> node) {
+            map.put(key, node);
+            return evictEldest(map, capacity);
+        }
+
+        @Override
+        void remove(K key) {
+            map.remove(key);
+        }
+
+        @Override
+        int size() {
+            return map.size();
+        }
+
+        @Override
+        void clear() {
+            map.clear();
+        }
+    }
+
+    private static final class LfuSegment<K, V> extends Segment<K, V> {
+        private final Map<K, Node<V>> map = new HashMap<>();
+        private final Map<Integer, LinkedHashSet<K>> buckets = new HashMap<>();
+        private int minFrequency;
+
+        LfuSegment(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        Node<V> get(K key) {
+            Node<V> node = map.get(key);
+            if (node != null) touch(key, node);
+            return node;
+        }
+
+        @Override
+        int put(K key, Node<V> node) {
+            Node<V> previous = map.get(key);
+            if (previous != null) {
+                node.frequency = previous.frequency;
+                map.put(key, node);
+                touch(key, node);
+                return 0;
+            }
+
+            int evicted = 0;
+            if (map.size() >= capacity) {
+                // Tras una expiración el mínimo puede haber quedado obsoleto
+                if (!buckets.containsKey(minFrequency)) {
+                    minFrequency = buckets.keySet().stream().mapToInt(Integer::intValue).min().getAsInt();
+                }
+                K victim = buckets.get(minFrequency).iterator().next();
+                unlink(victim, minFrequency);
+                map.remove(victim);
+                evicted = 1;
+            }
+            map.put(key, node);
+            link(key, node.frequency);
+            minFrequency = node.frequency;
+            return evicted;
+        }
+
+        @Override
+        void remove(K key) {
+            Node<V> node = map.remove(key);
+            if (node != null) unlink(key, node.frequency);
+        }
+
+        @Override
+        int size() {
+            return map.size();
+        }
+
+        @Override
+        void clear() {
+            map.clear();
+            buckets.clear();
+            minFrequency = 0;
+        }
+
+        private void touch(K key, Node<V> node) {
+            int frequency = node.frequency;
+            if (frequency == Integer.MAX_VALUE) return;
+            if (unlink(key, frequency) && frequency == minFrequency) minFrequency++;
+            node.frequency = frequency + 1;
+            link(key, node.frequency);
+        }
+
+        private void link(K key, int frequency) {
+            buckets.computeIfAbsent(frequency, f -> new LinkedHashSet<>()).add(key);
+        }
+
+        // Devuelve true si el grupo de esa frecuencia ha quedado vacío
+        private boolean unlink(K key, int frequency) {
+            LinkedHashSet<K> bucket = buckets.get(frequency);
+            bucket.remove(key);
+            if (!bucket.isEmpty()) return false;
+            buckets.remove(frequency);
+            return true;
+        }
+    }
+
+    private static final class TinyLfuSegment<K, V> extends Segment<K, V> {
+        private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, Node<V>> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final int windowCapacity;
+        private final int mainCapacity;
+        private final FrequencySketch sketch;
+
+        TinyLfuSegment(int capacity) {
+            super(capacity);
+            this.windowCapacity = Math.max(1, this.capacity / 100);
+            this.mainCapacity = Math.max(0, this.capacity - windowCapacity);
+            this.sketch = new FrequencySketch(this.capacity);
+        }
+
+        @Override
+        Node<V> get(K key) {
+            sketch.increment(key);
+            Node<V> node = window.get(key);
+            return node != null ? node : main.get(key);
+        }
+
+        @Override
+        int put(K key, Node<V> node) {
+            if (main.containsKey(key)) {
+                main.put(key, node);
+                return 0;
+            }
+            window.put(key, node);
+            if (window.size() <= windowCapacity) return 0;
+
+            // El candidato que sale de la ventana solo entra si es más frecuente que la víctima
+            Map.Entry<K, Node<V>> candidate = window.entrySet().iterator().next();
+            window.remove(candidate.getKey());
+            if (main.size() < mainCapacity) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return 0;
+            }
+            if (mainCapacity == 0) return 1;
+
+            K victim = main.keySet().iterator().next();
+            if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim)) {
+                main.remove(victim);
+                main.put(candidate.getKey(), candidate.getValue());
+            }
+            return 1;
+        }
+
+        @Override
+        void remove(K key) {
+            if (window.remove(key) == null) main.remove(key);
+        }
+
+        @Override
+        int size() {
+            return window.size() + main.size();
+        }
+
+        @Override
+        void clear() {
+            window.clear();
+            main.clear();
+        }
+    }
+
+    private static <K, V> int evictEldest(LinkedHashMap<K, Node<V>> map, int capacity) {
+        int evicted = 0;
+        Iterator<K> it = map.keySet().iterator();
+        while (map.size() > capacity) {
+            it.next();
+            it.remove();
+            evicted++;
+        }
+        return evicted;
+    }
+
+    // ----------------- Frequency sketch -----------------
+
+    // Count-min sketch de 4 filas con envejecimiento: los contadores se dividen a la mitad periódicamente
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = { 0x97CB3127, 0x0BA8C2D1, 0x6A5E3B8F, 0x1D2F4C67 };
+
+        private final int[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(1 << 24, capacity)) - 1) << 1;
+            this.table = new int[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * capacity);
+        }
+
+        void increment(Object key) {
+            int h = spread(key);
+            for (int i = 0; i < SEEDS.length; i++) {
+                int[] row = table[i];
+                int index = index(h, i);
+                if (row[index] < Integer.MAX_VALUE) row[index]++;
+            }
+            if (++additions >= sampleSize) reset();
+        }
+
+        int frequency(Object key) {
+            int h = spread(key);
+            int min = Integer.MAX_VALUE;
+            for (int i = 0; i < SEEDS.length; i++) {
+                min = Math.min(min, table[i][index(h, i)]);
+            }
+            return min;
+        }
+
+        private int index(int h, int row) {
+            int x = h * SEEDS[row];
+            return (x ^ (x >>> 15)) & mask;
+        }
+
+        private void reset() {
+            for (int[] row : table) {
+                for (int i = 0; i < row.length; i++) row[i] >>>= 1;
+            }
+            additions /= 2;
+        }
+    }
+}
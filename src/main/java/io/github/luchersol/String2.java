@@ -1,16 +1,79 @@
 package io.github.luchersol;
 
-import java.text.Normalizer;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public class String2 {
+    // Uso puntual: una búsqueda en el mapa por carácter, sin compilar ninguna tabla
     public static String swapCharacters(String str, Map<Character, Character> replacements) {
-        str = Normalizer.normalize(str, Normalizer.Form.NFC);
-        StringBuilder result = new StringBuilder(str.length());
-        for (char letter : str.toCharArray()) {
+        // Texto sin caracteres combinables (ASCII, Latin-1...) o ya en NFC: no se normaliza
+        str = CharTranslator.normalize(str);
+        StringBuilder result = null;
+        for (int i = 0, n = str.length(); i < n; i++) {
+            char letter = str.charAt(i);
             Character r = replacements.get(letter);
-            result.append(r != null ? r : letter);
+            if (r == null || r == letter) {
+                if (result != null) result.append(letter);
+                continue;
+            }
+            // El resultado sólo se construye a partir del primer carácter que cambia
+            if (result == null) result = new StringBuilder(n).append(str, 0, i);
+            result.append(r.charValue());
         }
-        return result.toString();
+        return result == null ? str : result.toString();
+    }
+
+    // Para reemplazos repetidos conviene compilar el CharTranslator una vez y reutilizarlo
+    public static String swapCharacters(String str, CharTranslator translator) {
+        return translator.translate(str);
+    }
+
+    // Versiones en streaming: la memoria usada no depende del tamaño de la entrada
+    public static void swapCharacters(Reader in, Writer out, CharTranslator translator) throws IOException {
+        translator.translate(in, out);
+    }
+
+    public static void swapCharacters(CharBuffer buffer, CharTranslator translator) {
+        translator.translate(buffer);
+    }
+
+    public static void swapCharacters(Path source, Path target, Charset charset, CharTranslator translator) throws IOException {
+        translator.translate(source, target, charset);
+    }
+
+    // Búsqueda y reemplazo de varias subcadenas a la vez; para textos repetidos conviene reutilizar el StringMatcher
+    public static String replaceAll(String str, Map<String, String> replacements) {
+        return StringMatcher.of(replacements).replaceAll(str);
+    }
+
+    public static String replaceAll(String str, StringMatcher matcher) {
+        return matcher.replaceAll(str);
+    }
+
+    public static void replaceAll(Reader in, Writer out, StringMatcher matcher) throws IOException {
+        matcher.replaceAll(in, out);
+    }
+
+    public static List<StringMatcher.Match> findAll(String str, Collection<String> patterns) {
+        return StringMatcher.of(patterns).findAll(str);
+    }
+
+    public static List<StringMatcher.Match> findAll(String str, StringMatcher matcher) {
+        return matcher.findAll(str);
+    }
+
+    public static boolean containsAny(String str, Collection<String> patterns) {
+        return StringMatcher.of(patterns).containsAny(str);
+    }
+
+    public static boolean containsAny(String str, StringMatcher matcher) {
+        return matcher.containsAny(str);
     }
 }
@@ -0,0 +1,352 @@
+package io.github.luchersol;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Multi-pattern matcher compiled once from a set of patterns (Aho-Corasick automaton), which
+ * finds or replaces all of them in a single pass over the text, whatever their number.
+ * <p>
+ * The automaton is a dense transition table indexed by state and character class, where only
+ * the characters that appear in some pattern get a class of their own. Matching is exact
+ * (case-sensitive) and, except for {@link #findAllOverlapping}, follows leftmost-longest
+ * semantics: among the matches that overlap, the one that starts first wins, and among those
+ * that start at the same position, the longest one.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class StringMatcher {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * A match of a pattern in a text.
+     *
+     * @param start index of the first character of the match
+     * @param end index after the last character of the match
+     * @param pattern the matched pattern
+     */
+    public record Match(int start, int end, String pattern) {}
+
+    private final String[] patterns;
+    private final String[] replacements;
+    private final char[] classes;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[] depth;
+    private final int[] fail;
+    private final int[] terminal;
+    private final int[] outputState;
+
+    // ----------------- Compilation -----------------
+
+    private StringMatcher(Map<String, String> replacements, boolean replacing) {
+        this.patterns = replacements.keySet().toArray(String[]::new);
+        this.replacements = replacing ? replacements.values().toArray(String[]::new) : null;
+
+        // Cada carácter que aparece en algún patrón tiene su propia clase; el resto comparten la 0
+        int maxChar = -1, totalLength = 0;
+        for (String pattern : patterns) {
+            Checker.check(pattern != null && !pattern.isEmpty(), "Patterns must not be empty");
+            for (int i = 0; i < pattern.length(); i++) maxChar = Math.max(maxChar, pattern.charAt(i));
+            totalLength += pattern.length();
+        }
+        this.classes = new char[maxChar + 1];
+        int size = 1;
+        for (String pattern : patterns)
+            for (int i = 0; i < pattern.length(); i++)
+                if (classes[pattern.charAt(i)] == 0) classes[pattern.charAt(i)] = (char) size++;
+        this.alphabetSize = size;
+
+        int maxStates = totalLength + 1;
+        int[] transitions = new int[maxStates * alphabetSize];
+        int[] depth = new int[maxStates];
+        int[] terminal = new int[maxStates];
+        Arrays.fill(transitions, -1);
+        Arrays.fill(terminal, -1);
+
+        // Trie de los patrones
+        int states = 1;
+        for (int p = 0; p < patterns.length; p++) {
+            int state = 0;
+            for (int i = 0; i < patterns[p].length(); i++) {
+                int slot = state * alphabetSize + classOf(patterns[p].charAt(i));
+                if (transitions[slot] == -1) {
+                    depth[states] = depth[state] + 1;
+                    transitions[slot] = states++;
+                }
+                state = transitions[slot];
+            }
+            terminal[state] = p;
+        }
+
+        // Recorrido en anchura: enlaces de fallo y transiciones ausentes resueltas (autómata determinista)
+        int[] fail = new int[states];
+        int[] outputState = new int[states];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < alphabetSize; c++) {
+            int next = transitions[c];
+            if (next == -1) transitions[c] = 0;
+            else {
+                queue.add(next);
+                outputState[next] = terminal[next] >= 0 ? next : 0;
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int c = 0; c < alphabetSize; c++) {
+                int slot = state * alphabetSize + c;
+                int fallback = transitions[fail[state] * alphabetSize + c];
+                int next = transitions[slot];
+                if (next == -1) transitions[slot] = fallback;
+                else {
+                    fail[next] = fallback;
+                    outputState[next] = terminal[next] >= 0 ? next : outputState[fallback];
+                    queue.add(next);
+                }
+            }
+        }
+
+        this.transitions = Arrays.copyOf(transitions, states * alphabetSize);
+        this.depth = Arrays.copyOf(depth, states);
+        this.terminal = Arrays.copyOf(terminal, states);
+        this.fail = fail;
+        this.outputState = outputState;
+    }
+
+    /**
+     * Compiles a matcher for the given patterns.
+     *
+     * @param patterns the patterns to search, none of them empty
+     * @return the compiled matcher
+     * @throws IllegalArgumentException if a pattern is empty
+     */
+    public static StringMatcher of(Collection<String> patterns) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (String pattern : patterns) map.put(pattern, pattern);
+        return new StringMatcher(map, false);
+    }
+
+    /**
+     * Compiles a matcher for the given patterns.
+     *
+     * @param patterns the patterns to search, none of them empty
+     * @return the compiled matcher
+     * @throws IllegalArgumentException if a pattern is empty
+     */
+    public static StringMatcher of(String... patterns) {
+        return of(List.of(patterns));
+    }
+
+    /**
+     * Compiles a matcher that replaces each key of the map by its value.
+     *
+     * @param replacements the replacement of each pattern, no pattern empty
+     * @return the compiled matcher
+     * @throws IllegalArgumentException if a pattern is empty
+     */
+    public static StringMatcher of(Map<String, String> replacements) {
+        return new StringMatcher(new LinkedHashMap<>(replacements), true);
+    }
+
+    // ----------------- Search -----------------
+
+    /**
+     * Returns whether any of the patterns occurs in the text, stopping at the first occurrence.
+     *
+     * @param text the text to search
+     * @return {@code true} if some pattern occurs in the text
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            if (outputState[state] != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the non-overlapping matches of the patterns in the text, from left to right,
+     * following leftmost-longest semantics.
+     *
+     * @param text the text to search
+     * @return the matches, in order
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> result = new ArrayList<>();
+        new Scan().run(text, text.length(), true, (start, end, pattern) -> result.add(new Match(start, end, patterns[pattern])));
+        return result;
+    }
+
+    /**
+     * Returns every occurrence of every pattern in the text, including overlapping ones,
+     * ordered by end position and, for the same end, from longest to shortest.
+     *
+     * @param text the text to search
+     * @return all the occurrences
+     */
+    public List<Match> findAllOverlapping(CharSequence text) {
+        List<Match> result = new ArrayList<>();
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            for (int s = outputState[state]; s != 0; s = outputState[fail[s]]) {
+                String pattern = patterns[terminal[s]];
+                result.add(new Match(i + 1 - pattern.length(), i + 1, pattern));
+            }
+        }
+        return result;
+    }
+
+    // ----------------- Replacement -----------------
+
+    /**
+     * Replaces the matches found by {@link #findAll} with the replacements given at compile time.
+     *
+     * @param text the text to transform
+     * @return the transformed text, or the text itself if it is a string and nothing matched
+     * @throws IllegalArgumentException if the matcher was not compiled from a replacement map
+     */
+    public String replaceAll(CharSequence text) {
+        Checker.check(replacements != null, "Matcher was compiled without replacements");
+        return replace(text, (start, end, pattern) -> replacements[pattern]);
+    }
+
+    /**
+     * Replaces the matches found by {@link #findAll} with the result of a function.
+     *
+     * @param text the text to transform
+     * @param replacer the replacement of each match
+     * @return the transformed text, or the text itself if it is a string and nothing matched
+     */
+    public String replaceAll(CharSequence text, Function<? super Match, String> replacer) {
+        return replace(text, (start, end, pattern) -> replacer.apply(new Match(start, end, patterns[pattern])));
+    }
+
+    /**
+     * Copies a reader into a writer replacing the matches with the replacements given at
+     * compile time. Only a window about as long as the longest pattern is kept in memory.
+     * Neither the reader nor the writer is closed.
+     *
+     * @param in the source of characters
+     * @param out the destination of the transformed characters
+     * @throws IOException if reading or writing fails
+     * @throws IllegalArgumentException if the matcher was not compiled from a replacement map
+     */
+    public void replaceAll(Reader in, Writer out) throws IOException {
+        Checker.check(replacements != null, "Matcher was compiled without replacements");
+        StringBuilder window = new StringBuilder();
+        char[] chunk = new char[CHUNK_SIZE];
+        Scan scan = new Scan();
+        int[] emitted = { 0 };
+        IOException[] failure = { null };
+        MatchSink sink = (start, end, pattern) -> {
+            try {
+                out.append(window, emitted[0], start).write(replacements[pattern]);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+            emitted[0] = end;
+        };
+
+        int read;
+        do {
+            read = in.read(chunk);
+            if (read > 0) window.append(chunk, 0, read);
+            scan.run(window, window.length(), read == -1, sink);
+            if (failure[0] != null) throw failure[0];
+
+            // Lo anterior a la ventana del autómata ya no puede formar parte de ninguna coincidencia
+            int safe = read == -1 ? window.length() : Math.max(emitted[0], scan.safeStart());
+            out.append(window, emitted[0], safe);
+            window.delete(0, safe);
+            scan.shift(safe);
+            emitted[0] = 0;
+        } while (read != -1);
+        out.flush();
+    }
+
+    // ----------------- Helpers -----------------
+
+    private int classOf(char c) {
+        return c < classes.length ? classes[c] : 0;
+    }
+
+    // Sin coincidencias no se copia nada: se devuelve el propio texto
+    private String replace(CharSequence text, Replacement replacement) {
+        int[] position = { 0 };
+        StringBuilder result = new StringBuilder(text.length());
+        new Scan().run(text, text.length(), true, (start, end, pattern) -> {
+            result.append(text, position[0], start).append(replacement.apply(start, end, pattern));
+            position[0] = end;
+        });
+        if (position[0] == 0) return text.toString();
+        return result.append(text, position[0], text.length()).toString();
+    }
+
+    private interface MatchSink {
+        void match(int start, int end, int pattern);
+    }
+
+    private interface Replacement {
+        String apply(int start, int end, int pattern);
+    }
+
+    // Búsqueda leftmost-longest: un candidato se confirma cuando ninguna coincidencia futura puede
+    // empezar antes o en su misma posición, y la búsqueda se reanuda desde su final
+    private final class Scan {
+        private int state;
+        private int position;
+        private int candidate = -1;
+        private int candidateStart;
+        private int candidateEnd;
+
+        void run(CharSequence text, int n, boolean eof, MatchSink sink) {
+            while (position < n || (eof && candidate >= 0)) {
+                int windowStart = Integer.MAX_VALUE;
+                if (position < n) {
+                    state = transitions[state * alphabetSize + classOf(text.charAt(position++))];
+                    windowStart = position - depth[state];
+                    int pattern = terminal[outputState[state]];
+                    if (pattern >= 0) {
+                        int start = position - patterns[pattern].length();
+                        if (candidate < 0 || start < candidateStart || (start == candidateStart && position > candidateEnd)) {
+                            candidate = pattern;
+                            candidateStart = start;
+                            candidateEnd = position;
+                        }
+                    }
+                }
+                if (candidate >= 0 && windowStart > candidateStart) {
+                    sink.match(candidateStart, candidateEnd, candidate);
+                    position = candidateEnd;
+                    state = 0;
+                    candidate = -1;
+                }
+            }
+        }
+
+        // Inicio de la ventana del autómata: ninguna coincidencia futura (ni el candidato pendiente) empieza antes
+        int safeStart() {
+            return position - depth[state];
+        }
+
+        void shift(int offset) {
+            position -= offset;
+            candidateStart -= offset;
+            candidateEnd -= offset;
+        }
+    }
+
+}
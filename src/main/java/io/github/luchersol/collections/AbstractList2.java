@@ -1,5 +1,6 @@
 package io.github.luchersol.collections;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -9,7 +10,9 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -20,6 +23,9 @@ import java.util.stream.IntStream;
 import io.github.luchersol.Checker;
 
 public abstract class AbstractList2<E> implements List<E> {
+
+    // Por debajo de este tamaño buscar linealmente en 'other' es más barato que construir un HashSet
+    private static final int LINEAR_LOOKUP_THRESHOLD = 8;
     
     protected List<E> inner;
 
@@ -33,6 +39,11 @@ public abstract class AbstractList2<E> implements List<E> {
         return Collections.unmodifiableList(inner);
     }
 
+    // Vista perezosa: filter/map/distinct/limit/skip se fusionan en una sola pasada
+    public LazyList2<E> view() {
+        return new LazyList2<>(inner);
+    }
+
     // ----------------- Gets with default or optional values -----------------
 
     public E getOrElse(int index, E defaultValue) {
@@ -126,6 +137,40 @@ public abstract class AbstractList2<E> implements List<E> {
         return outer;
     }
 
+    // ----------------- Set algebra helpers -----------------
+
+    protected static Collection<?> lookup(Collection<?> other) {
+        if (other instanceof Set<?> || other.size() <= LINEAR_LOOKUP_THRESHOLD) return other;
+        return new HashSet<>(other);
+    }
+
+    // Recorrido de mezcla sobre dos listas ordenadas: conserva los elementos de source que están (o no) en other
+    protected static <E> void mergeFilter(List<E> source, List<? extends E> other, Comparator<? super E> cmp, boolean keepMatches, Collection<E> result) {
+        List<? extends E> sorted = randomAccess(other);
+        int j = 0, m = sorted.size();
+        for (E e : source) {
+            while (j < m && cmp.compare(sorted.get(j), e) < 0) j++;
+            boolean match = j < m && cmp.compare(sorted.get(j), e) == 0;
+            if (match == keepMatches) result.add(e);
+        }
+    }
+
+    // Unión de dos listas ordenadas: todo source y los elementos nuevos de other, sin repetirlos
+    protected static <E> void mergeUnion(List<E> source, List<? extends E> other, Comparator<? super E> cmp, Collection<E> result) {
+        List<E> a = randomAccess(source);
+        List<? extends E> b = randomAccess(other);
+        int i = 0, j = 0, n = a.size(), m = b.size();
+        while (i < n || j < m) {
+            E e = j == m || (i < n && cmp.compare(a.get(i), b.get(j)) <= 0) ? a.get(i++) : b.get(j++);
+            result.add(e);
+            while (j < m && cmp.compare(b.get(j), e) == 0) j++;
+        }
+    }
+
+    private static <E> List<E> randomAccess(List<E> list) {
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
+    }
+
     // ----------------- Advanced transformations -----------------
 
     public <K> Map<K, List<E>> groupingBy(Function<E, K> classifier) {
@@ -144,6 +189,36 @@ public abstract class AbstractList2<E> implements List<E> {
         return stream().collect(Collectors.toMap(keyMapper, valueMapper, mergeFunction, mapFactory));
     }
 
+    // ----------------- Parallel operations -----------------
+
+    public long parallelCount(Predicate<E> predicate) {
+        return parallelCount(predicate, ForkJoinPool.commonPool());
+    }
+
+    public long parallelCount(Predicate<E> predicate, ForkJoinPool pool) {
+        return ParallelOps.count(inner, predicate, pool);
+    }
+
+    public <K> Map<K, List<E>> parallelGroupingBy(Function<E, K> classifier) {
+        return parallelGroupingBy(classifier, ForkJoinPool.commonPool());
+    }
+
+    public <K> Map<K, List<E>> parallelGroupingBy(Function<E, K> classifier, ForkJoinPool pool) {
+        return ParallelOps.groupingBy(inner, classifier, pool);
+    }
+
+    public <K, V> Map<K, V> parallelToMap(Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper) {
+        return parallelToMap(keyMapper, valueMapper, null, ForkJoinPool.commonPool());
+    }
+
+    public <K, V> Map<K, V> parallelToMap(Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+        return parallelToMap(keyMapper, valueMapper, mergeFunction, ForkJoinPool.commonPool());
+    }
+
+    public <K, V> Map<K, V> parallelToMap(Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper, BinaryOperator<V> mergeFunction, ForkJoinPool pool) {
+        return ParallelOps.toMap(inner, keyMapper, valueMapper, mergeFunction, pool);
+    }
+
     // ----------------- toString ----------------- 
 
 	public String toString(String sep, String prefix, String suffix) {
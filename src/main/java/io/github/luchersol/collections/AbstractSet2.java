@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -130,6 +131,36 @@ public abstract class AbstractSet2<E> implements Set<E> {
         return stream().collect(Collectors.toMap(keyMapper, valueMapper, mergeFunction, mapFactory));
     }
 
+    // ----------------- Parallel operations -----------------
+
+    public long parallelCount(Predicate<E> predicate) {
+        return parallelCount(predicate, ForkJoinPool.commonPool());
+    }
+
+    public long parallelCount(Predicate<E> predicate, ForkJoinPool pool) {
+        return ParallelOps.count(inner, predicate, pool);
+    }
+
+    public <K> Map<K, List<E>> parallelGroupingBy(Function<E, K> classifier) {
+        return parallelGroupingBy(classifier, ForkJoinPool.commonPool());
+    }
+
+    public <K> Map<K, List<E>> parallelGroupingBy(Function<E, K> classifier, ForkJoinPool pool) {
+        return ParallelOps.groupingBy(inner, classifier, pool);
+    }
+
+    public <K, V> Map<K, V> parallelToMap(Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper) {
+        return parallelToMap(keyMapper, valueMapper, null, ForkJoinPool.commonPool());
+    }
+
+    public <K, V> Map<K, V> parallelToMap(Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper, BinaryOperator<V> mergeFunction) {
+        return parallelToMap(keyMapper, valueMapper, mergeFunction, ForkJoinPool.commonPool());
+    }
+
+    public <K, V> Map<K, V> parallelToMap(Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper, BinaryOperator<V> mergeFunction, ForkJoinPool pool) {
+        return ParallelOps.toMap(inner, keyMapper, valueMapper, mergeFunction, pool);
+    }
+
     // ----------------- toString ----------------- 
 
 	public String toString(String sep, String prefix, String suffix) {
@@ -0,0 +1,763 @@
+package io.github.luchersol.collections;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Node of a CHAMP (Compressed Hash-Array Mapped Prefix-tree) trie, the persistent hash map behind
+ * {@link InmutableMap2} and {@link InmutableSet2}.
+ * <p>
+ * A bitmap node keeps its inlined entries ({@code key, value} pairs) at the front of a single array and
+ * its sub nodes at the back, indexed by two 32-bit bitmaps. Deletions re-inline single entries, so the
+ * trie shape only depends on its content: two tries with the same entries have the same structure,
+ * which makes equality and diffs skip every shared sub tree by reference.
+ */
+abstract class ChampNode {
+
+    static final Object NOT_FOUND = new Object();
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+
+    static final ChampNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+    /**
+     * Outcome of an update: whether the trie changed and whether an entry was added or removed.
+     */
+    static final class Change {
+        boolean modified;
+        int sizeDelta;
+    }
+
+    /**
+     * Receives the differences found between two tries.
+     */
+    interface DiffSink {
+        void added(Object key, Object value);
+
+        void removed(Object key, Object value);
+
+        void changed(Object key, Object oldValue, Object newValue);
+    }
+
+    static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    abstract Object find(Object key, int hash, int shift);
+
+    abstract ChampNode put(Object key, Object value, int hash, int shift, Change change);
+
+    abstract ChampNode remove(Object key, int hash, int shift, Change change);
+
+    abstract void forEach(BiConsumer<Object, Object> action);
+
+    // true si el nodo contiene una sola entrada y ningún sub nodo (el padre la puede volver a integrar)
+    abstract boolean isSingleton();
+
+    abstract Object singleKey();
+
+    abstract Object singleValue();
+
+    // ----------------- Equality -----------------
+
+    static boolean equal(ChampNode a, ChampNode b) {
+        if (a == b) return true;
+        if (a instanceof BitmapNode x && b instanceof BitmapNode y) {
+            if (x.dataMap != y.dataMap || x.nodeMap != y.nodeMap) return false;
+            int payload = 2 * Integer.bitCount(x.dataMap);
+            for (int i = 0; i < payload; i++)
+                if (!Objects.equals(x.content[i], y.content[i])) return false;
+            for (int i = payload; i < x.content.length; i++)
+                if (!equal((ChampNode) x.content[i], (ChampNode) y.content[i])) return false;
+            return true;
+        }
+        if (a instanceof CollisionNode x && b instanceof CollisionNode y) {
+            if (x.hash != y.hash || x.keys.length != y.keys.length) return false;
+            for (int i = 0; i < x.keys.length; i++) {
+                Object value = y.find(x.keys[i], x.hash, HASH_BITS);
+                if (value == NOT_FOUND || !Objects.equals(value, x.values[i])) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // ----------------- Diff -----------------
+
+    // Recorre ambos tries a la vez y salta los sub árboles compartidos por referencia
+    static void diff(ChampNode a, ChampNode b, int shift, DiffSink sink) {
+        if (a == b) return;
+        if (!(a instanceof BitmapNode x) || !(b instanceof BitmapNode y)) {
+            a.forEach((key, value) -> {
+                Object other = b.find(key, hash(key), shift);
+                if (other == NOT_FOUND) sink.removed(key, value);
+                else if (!Objects.equals(value, other)) sink.changed(key, value, other);
+            });
+            b.forEach((key, value) -> {
+                if (a.find(key, hash(key), shift) == NOT_FOUND) sink.added(key, value);
+            });
+            return;
+        }
+
+        int all = x.dataMap | x.nodeMap | y.dataMap | y.nodeMap;
+        while (all != 0) {
+            int bit = Integer.lowestOneBit(all);
+            all ^= bit;
+
+            if ((x.dataMap & bit) != 0) {
+                Object key = x.keyAt(bit), value = x.valueAt(bit);
+                if ((y.dataMap & bit) != 0) {
+                    Object otherKey = y.keyAt(bit), otherValue = y.valueAt(bit);
+                    if (Objects.equals(key, otherKey)) {
+                        if (!Objects.equals(value, otherValue)) sink.changed(key, value, otherValue);
+                    } else {
+                        sink.removed(key, value);
+                        sink.added(otherKey, otherValue);
+                    }
+                } else if ((y.nodeMap & bit) != 0) {
+                    ChampNode sub = y.nodeAt(bit);
+                    Object otherValue = sub.find(key, hash(key), shift + BITS);
+                    if (otherValue == NOT_FOUND) sink.removed(key, value);
+                    else if (!Objects.equals(value, otherValue)) sink.changed(key, value, otherValue);
+                    sub.forEach((k, v) -> {
+                        if (!Objects.equals(k, key)) sink.added(k, v);
+                    });
+                } else {
+                    sink.removed(key, value);
+                }
+            } else if ((x.nodeMap & bit) != 0) {
+                ChampNode sub = x.nodeAt(bit);
+                if ((y.nodeMap & bit) != 0) {
+                    diff(sub, y.nodeAt(bit), shift + BITS, sink);
+                } else if ((y.dataMap & bit) != 0) {
+                    Object otherKey = y.keyAt(bit), otherValue = y.valueAt(bit);
+                    Object value = sub.find(otherKey, hash(otherKey), shift + BITS);
+                    if (value == NOT_FOUND) sink.added(otherKey, otherValue);
+                    else if (!Objects.equals(value, otherValue)) sink.changed(otherKey, value, otherValue);
+                    sub.forEach((k, v) -> {
+                        if (!Objects.equals(k, otherKey)) sink.removed(k, v);
+                    });
+                } else {
+                    sub.forEach(sink::removed);
+                }
+            } else if ((y.dataMap & bit) != 0) {
+                sink.added(y.keyAt(bit), y.valueAt(bit));
+            } else {
+                y.nodeAt(bit).forEach(sink::added);
+            }
+        }
+    }
+
+    // ----------------- Set operations -----------------
+
+    // Operaciones de conjunto nodo a nodo: un sub árbol compartido por referencia se resuelve sin recorrerlo
+    // y, si el resultado coincide con uno de los operandos, se devuelve ese nodo. Con claves iguales se
+    // conserva la entrada de a. change.sizeDelta acumula la variación de tamaño respecto de a
+
+    static ChampNode union(ChampNode a, ChampNode b, int shift, Change change) {
+        if (a == b || isEmpty(b)) return a;
+        if (isEmpty(a)) {
+            change.sizeDelta += size(b);
+            return b;
+        }
+        // En una misma posición, o los dos son nodos de colisión o ninguno lo es
+        if (!(a instanceof BitmapNode x) || !(b instanceof BitmapNode y)) {
+            ChampNode result = a;
+            Cursor cursor = new Cursor(b);
+            while (cursor.advance()) {
+                Object key = cursor.key();
+                if (a.find(key, hash(key), shift) != NOT_FOUND) continue;
+                result = result.put(key, cursor.value(), hash(key), shift, new Change());
+                change.sizeDelta++;
+            }
+            return result;
+        }
+
+        int all = x.dataMap | x.nodeMap | y.dataMap | y.nodeMap;
+        Builder builder = new Builder(all);
+        while (all != 0) {
+            int bit = Integer.lowestOneBit(all);
+            all ^= bit;
+
+            if ((x.dataMap & bit) != 0) {
+                Object key = x.keyAt(bit), value = x.valueAt(bit);
+                if ((y.dataMap & bit) != 0) {
+                    Object otherKey = y.keyAt(bit);
+                    if (Objects.equals(key, otherKey)) {
+                        builder.entry(bit, key, value);
+                    } else {
+                        builder.node(bit, BitmapNode.merge(key, value, hash(key), otherKey, y.valueAt(bit), hash(otherKey), shift + BITS));
+                        change.sizeDelta++;
+                    }
+                } else if ((y.nodeMap & bit) != 0) {
+                    ChampNode sub = y.nodeAt(bit);
+                    int hash = hash(key);
+                    boolean shared = sub.find(key, hash, shift + BITS) != NOT_FOUND;
+                    change.sizeDelta += size(sub) - (shared ? 1 : 0);
+                    builder.node(bit, shared ? sub : sub.put(key, value, hash, shift + BITS, new Change()));
+                } else {
+                    builder.entry(bit, key, value);
+                }
+            } else if ((x.nodeMap & bit) != 0) {
+                ChampNode sub = x.nodeAt(bit);
+                if ((y.nodeMap & bit) != 0) {
+                    builder.node(bit, union(sub, y.nodeAt(bit), shift + BITS, change));
+                } else if ((y.dataMap & bit) != 0) {
+                    Object otherKey = y.keyAt(bit);
+                    int hash = hash(otherKey);
+                    if (sub.find(otherKey, hash, shift + BITS) == NOT_FOUND) {
+                        sub = sub.put(otherKey, y.valueAt(bit), hash, shift + BITS, new Change());
+                        change.sizeDelta++;
+                    }
+                    builder.node(bit, sub);
+                } else {
+                    builder.node(bit, sub);
+                }
+            } else if ((y.dataMap & bit) != 0) {
+                builder.entry(bit, y.keyAt(bit), y.valueAt(bit));
+                change.sizeDelta++;
+            } else {
+                ChampNode sub = y.nodeAt(bit);
+                builder.node(bit, sub);
+                change.sizeDelta += size(sub);
+            }
+        }
+        return builder.build(x, y, shift);
+    }
+
+    static ChampNode intersection(ChampNode a, ChampNode b, int shift, Change change) {
+        if (a == b) return a;
+        if (isEmpty(a) || isEmpty(b)) {
+            change.sizeDelta -= size(a);
+            return EMPTY;
+        }
+        // En una misma posición, o los dos son nodos de colisión o ninguno lo es
+        if (!(a instanceof BitmapNode x) || !(b instanceof BitmapNode y))
+            return filterCollision((CollisionNode) a, b, true, change);
+
+        // Sólo importan las posiciones que existen en ambos nodos
+        int all = (x.dataMap | x.nodeMap) & (y.dataMap | y.nodeMap);
+        change.sizeDelta -= sizeAt(x, ~all);
+        Builder builder = new Builder(all);
+        while (all != 0) {
+            int bit = Integer.lowestOneBit(all);
+            all ^= bit;
+
+            if ((x.dataMap & bit) != 0) {
+                Object key = x.keyAt(bit);
+                boolean kept = (y.dataMap & bit) != 0
+                        ? Objects.equals(key, y.keyAt(bit))
+                        : y.nodeAt(bit).find(key, hash(key), shift + BITS) != NOT_FOUND;
+                if (kept) builder.entry(bit, key, x.valueAt(bit));
+                else change.sizeDelta--;
+            } else {
+                ChampNode sub = x.nodeAt(bit);
+                if ((y.nodeMap & bit) != 0) {
+                    builder.node(bit, intersection(sub, y.nodeAt(bit), shift + BITS, change));
+                } else {
+                    Object otherKey = y.keyAt(bit);
+                    Object value = sub.find(otherKey, hash(otherKey), shift + BITS);
+                    if (value != NOT_FOUND) builder.entry(bit, otherKey, value);
+                    change.sizeDelta -= size(sub) - (value != NOT_FOUND ? 1 : 0);
+                }
+            }
+        }
+        return builder.build(x, y, shift);
+    }
+
+    static ChampNode difference(ChampNode a, ChampNode b, int shift, Change change) {
+        if (a == b) {
+            change.sizeDelta -= size(a);
+            return EMPTY;
+        }
+        if (isEmpty(a) || isEmpty(b)) return a;
+        // En una misma posición, o los dos son nodos de colisión o ninguno lo es
+        if (!(a instanceof BitmapNode x) || !(b instanceof BitmapNode y))
+            return filterCollision((CollisionNode) a, b, false, change);
+
+        int all = x.dataMap | x.nodeMap;
+        Builder builder = new Builder(all);
+        while (all != 0) {
+            int bit = Integer.lowestOneBit(all);
+            all ^= bit;
+
+            if ((x.dataMap & bit) != 0) {
+                Object key = x.keyAt(bit);
+                boolean removed = (y.dataMap & bit) != 0
+                        ? Objects.equals(key, y.keyAt(bit))
+                        : (y.nodeMap & bit) != 0 && y.nodeAt(bit).find(key, hash(key), shift + BITS) != NOT_FOUND;
+                if (removed) change.sizeDelta--;
+                else builder.entry(bit, key, x.valueAt(bit));
+            } else {
+                ChampNode sub = x.nodeAt(bit);
+                if ((y.nodeMap & bit) != 0) {
+                    sub = difference(sub, y.nodeAt(bit), shift + BITS, change);
+                } else if ((y.dataMap & bit) != 0) {
+                    Object otherKey = y.keyAt(bit);
+                    int hash = hash(otherKey);
+                    if (sub.find(otherKey, hash, shift + BITS) != NOT_FOUND) {
+                        sub = sub.remove(otherKey, hash, shift + BITS, new Change());
+                        change.sizeDelta--;
+                    }
+                }
+                builder.node(bit, sub);
+            }
+        }
+        return builder.build(x, y, shift);
+    }
+
+    // Conserva las entradas de x que están (o no están) en other, con la misma forma que deja remove
+    private static ChampNode filterCollision(CollisionNode x, ChampNode other, boolean shared, Change change) {
+        Object[] keys = new Object[x.keys.length], values = new Object[x.keys.length];
+        int n = 0;
+        for (int i = 0; i < x.keys.length; i++) {
+            if ((other.find(x.keys[i], x.hash, HASH_BITS) != NOT_FOUND) != shared) continue;
+            keys[n] = x.keys[i];
+            values[n++] = x.values[i];
+        }
+        change.sizeDelta -= x.keys.length - n;
+        if (n == x.keys.length) return x;
+        if (n == 0) return EMPTY;
+        if (n == 1) return new BitmapNode(BitmapNode.bitpos(x.hash, 0), 0, new Object[] { keys[0], values[0] });
+        return new CollisionNode(x.hash, Arrays.copyOf(keys, n), Arrays.copyOf(values, n));
+    }
+
+    static int size(ChampNode node) {
+        if (node instanceof CollisionNode collision) return collision.keys.length;
+        BitmapNode bitmap = (BitmapNode) node;
+        int size = bitmap.size;
+        if (size == 0) {
+            size = Integer.bitCount(bitmap.dataMap);
+            for (int i = 2 * size; i < bitmap.content.length; i++) size += size((ChampNode) bitmap.content[i]);
+            bitmap.size = size;
+        }
+        return size;
+    }
+
+    // Entradas de x en las posiciones indicadas (las que se descartan enteras)
+    private static int sizeAt(BitmapNode x, int bits) {
+        int size = Integer.bitCount(x.dataMap & bits);
+        for (int nodes = x.nodeMap & bits; nodes != 0; nodes &= nodes - 1)
+            size += size(x.nodeAt(Integer.lowestOneBit(nodes)));
+        return size;
+    }
+
+    private static boolean isEmpty(ChampNode node) {
+        return node instanceof BitmapNode bitmap && bitmap.content.length == 0;
+    }
+
+    // Reúne el resultado posición a posición y lo construye en la misma forma canónica que put y remove
+    private static final class Builder {
+        private final Object[] data;
+        private final ChampNode[] nodes;
+        private int dataMap;
+        private int nodeMap;
+        private int dataCount;
+        private int nodeCount;
+
+        Builder(int bits) {
+            this.data = new Object[2 * Integer.bitCount(bits)];
+            this.nodes = new ChampNode[Integer.bitCount(bits)];
+        }
+
+        void entry(int bit, Object key, Object value) {
+            dataMap |= bit;
+            data[dataCount++] = key;
+            data[dataCount++] = value;
+        }
+
+        // Los nodos vacíos desaparecen y los de una sola entrada se vuelven a integrar
+        void node(int bit, ChampNode node) {
+            if (isEmpty(node)) return;
+            if (node.isSingleton()) {
+                entry(bit, node.singleKey(), node.singleValue());
+                return;
+            }
+            nodeMap |= bit;
+            nodes[nodeCount++] = node;
+        }
+
+        ChampNode build(BitmapNode a, BitmapNode b, int shift) {
+            if (sameAs(a)) return a;
+            if (sameAs(b)) return b;
+            if (dataMap == 0 && nodeMap == 0) return EMPTY;
+            // Como en remove: una entrada suelta bajo la raíz se coloca según su posición en la raíz
+            if (shift > 0 && nodeMap == 0 && dataCount == 2)
+                return new BitmapNode(BitmapNode.bitpos(hash(data[0]), 0), 0, new Object[] { data[0], data[1] });
+            Object[] content = Arrays.copyOf(data, dataCount + nodeCount);
+            for (int i = 0; i < nodeCount; i++) content[content.length - 1 - i] = nodes[i];
+            return new BitmapNode(dataMap, nodeMap, content);
+        }
+
+        private boolean sameAs(BitmapNode node) {
+            if (node.dataMap != dataMap || node.nodeMap != nodeMap) return false;
+            for (int i = 0; i < dataCount; i++)
+                if (node.content[i] != data[i]) return false;
+            for (int i = 0; i < nodeCount; i++)
+                if (node.content[node.content.length - 1 - i] != nodes[i]) return false;
+            return true;
+        }
+    }
+
+    // ----------------- Iteration -----------------
+
+    // Cursor sobre las entradas del trie: advance() pasa a la siguiente sin crear objetos por entrada
+    static final class Cursor {
+        private final Deque<ChampNode> nodes = new ArrayDeque<>();
+        private Object[] keys;
+        private Object[] values;
+        private int index;
+        private int step;
+        private int end;
+        private boolean started;
+
+        Cursor(ChampNode root) {
+            nodes.push(root);
+        }
+
+        boolean hasNext() {
+            return (started && index + step < end) || nextNonEmptyNode();
+        }
+
+        boolean advance() {
+            if (started && index + step < end) {
+                index += step;
+                return true;
+            }
+            if (!nextNonEmptyNode()) return false;
+            load();
+            started = true;
+            return true;
+        }
+
+        Object key() {
+            return keys[index];
+        }
+
+        Object value() {
+            return step == 2 ? values[index + 1] : values[index];
+        }
+
+        // Avanza hasta un nodo con entradas sin consumirlo todavía
+        private boolean nextNonEmptyNode() {
+            while (!nodes.isEmpty()) {
+                ChampNode node = nodes.peek();
+                if (node instanceof BitmapNode bitmap && bitmap.dataMap == 0) {
+                    nodes.pop();
+                    pushChildren(bitmap);
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void load() {
+            ChampNode node = nodes.pop();
+            if (node instanceof BitmapNode bitmap) {
+                pushChildren(bitmap);
+                keys = bitmap.content;
+                values = bitmap.content;
+                step = 2;
+                end = 2 * Integer.bitCount(bitmap.dataMap);
+            } else {
+                CollisionNode collision = (CollisionNode) node;
+                keys = collision.keys;
+                values = collision.values;
+                step = 1;
+                end = collision.keys.length;
+            }
+            index = 0;
+        }
+
+        private void pushChildren(BitmapNode bitmap) {
+            int payload = 2 * Integer.bitCount(bitmap.dataMap);
+            for (int i = payload; i < bitmap.content.length; i++)
+                nodes.push((ChampNode) bitmap.content[i]);
+        }
+    }
+
+    // ----------------- Bitmap node -----------------
+
+    static final class BitmapNode extends ChampNode {
+        final int dataMap;
+        final int nodeMap;
+        final Object[] content;
+        // Entradas del sub árbol, calculadas al pedirlas y compartidas por todas las versiones que usan el nodo
+        private int size;
+
+        BitmapNode(int dataMap, int nodeMap, Object[] content) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        static int bitpos(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        Object keyAt(int bit) {
+            return content[2 * dataIndex(bit)];
+        }
+
+        Object valueAt(int bit) {
+            return content[2 * dataIndex(bit) + 1];
+        }
+
+        ChampNode nodeAt(int bit) {
+            return (ChampNode) content[nodeIndex(bit)];
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int bit = bitpos(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * dataIndex(bit);
+                return Objects.equals(content[i], key) ? content[i + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0) return nodeAt(bit).find(key, hash, shift + BITS);
+            return NOT_FOUND;
+        }
+
+        @Override
+        ChampNode put(Object key, Object value, int hash, int shift, Change change) {
+            int bit = bitpos(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * dataIndex(bit);
+                Object currentKey = content[i];
+                if (Objects.equals(currentKey, key)) {
+                    if (content[i + 1] == value) return this;
+                    Object[] copy = content.clone();
+                    copy[i + 1] = value;
+                    change.modified = true;
+                    return new BitmapNode(dataMap, nodeMap, copy);
+                }
+                ChampNode sub = merge(currentKey, content[i + 1], hash(currentKey), key, value, hash, shift + BITS);
+                change.modified = true;
+                change.sizeDelta = 1;
+                return migrateInlineToNode(bit, sub);
+            }
+            if ((nodeMap & bit) != 0) {
+                ChampNode sub = nodeAt(bit);
+                ChampNode updated = sub.put(key, value, hash, shift + BITS, change);
+                return updated == sub ? this : withNode(bit, updated);
+            }
+            change.modified = true;
+            change.sizeDelta = 1;
+            return insertValue(bit, key, value);
+        }
+
+        @Override
+        ChampNode remove(Object key, int hash, int shift, Change change) {
+            int bit = bitpos(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * dataIndex(bit);
+                if (!Objects.equals(content[i], key)) return this;
+                change.modified = true;
+                change.sizeDelta = -1;
+                if (Integer.bitCount(dataMap) == 2 && nodeMap == 0) {
+                    // El padre volverá a integrar la entrada restante; en la raíz se conserva su posición
+                    int newDataMap = shift == 0 ? dataMap ^ bit : bitpos(hash, 0);
+                    return i == 0
+                            ? new BitmapNode(newDataMap, 0, new Object[] { content[2], content[3] })
+                            : new BitmapNode(newDataMap, 0, new Object[] { content[0], content[1] });
+                }
+                return removeValue(bit, i);
+            }
+            if ((nodeMap & bit) != 0) {
+                ChampNode sub = nodeAt(bit);
+                ChampNode updated = sub.remove(key, hash, shift + BITS, change);
+                if (updated == sub) return this;
+                if (updated.isSingleton()) {
+                    if (dataMap == 0 && Integer.bitCount(nodeMap) == 1) return updated;
+                    return migrateNodeToInline(bit, updated);
+                }
+                return withNode(bit, updated);
+            }
+            return this;
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            int payload = 2 * Integer.bitCount(dataMap);
+            for (int i = 0; i < payload; i += 2) action.accept(content[i], content[i + 1]);
+            for (int i = content.length - 1; i >= payload; i--) ((ChampNode) content[i]).forEach(action);
+        }
+
+        @Override
+        boolean isSingleton() {
+            return nodeMap == 0 && Integer.bitCount(dataMap) == 1;
+        }
+
+        @Override
+        Object singleKey() {
+            return content[0];
+        }
+
+        @Override
+        Object singleValue() {
+            return content[1];
+        }
+
+        private ChampNode withNode(int bit, ChampNode node) {
+            Object[] copy = content.clone();
+            copy[nodeIndex(bit)] = node;
+            return new BitmapNode(dataMap, nodeMap, copy);
+        }
+
+        private ChampNode insertValue(int bit, Object key, Object value) {
+            int i = 2 * dataIndex(bit);
+            Object[] copy = new Object[content.length + 2];
+            System.arraycopy(content, 0, copy, 0, i);
+            copy[i] = key;
+            copy[i + 1] = value;
+            System.arraycopy(content, i, copy, i + 2, content.length - i);
+            return new BitmapNode(dataMap | bit, nodeMap, copy);
+        }
+
+        private ChampNode removeValue(int bit, int i) {
+            Object[] copy = new Object[content.length - 2];
+            System.arraycopy(content, 0, copy, 0, i);
+            System.arraycopy(content, i + 2, copy, i, content.length - i - 2);
+            return new BitmapNode(dataMap ^ bit, nodeMap, copy);
+        }
+
+        private ChampNode migrateInlineToNode(int bit, ChampNode node) {
+            int oldIndex = 2 * dataIndex(bit);
+            int newIndex = content.length - 2 - Integer.bitCount(nodeMap & (bit - 1));
+            Object[] copy = new Object[content.length - 1];
+            System.arraycopy(content, 0, copy, 0, oldIndex);
+            System.arraycopy(content, oldIndex + 2, copy, oldIndex, newIndex - oldIndex);
+            copy[newIndex] = node;
+            System.arraycopy(content, newIndex + 2, copy, newIndex + 1, content.length - newIndex - 2);
+            return new BitmapNode(dataMap ^ bit, nodeMap | bit, copy);
+        }
+
+        private ChampNode migrateNodeToInline(int bit, ChampNode node) {
+            int oldIndex = nodeIndex(bit);
+            int newIndex = 2 * dataIndex(bit);
+            Object[] copy = new Object[content.length + 1];
+            System.arraycopy(content, 0, copy, 0, newIndex);
+            copy[newIndex] = node.singleKey();
+            copy[newIndex + 1] = node.singleValue();
+            System.arraycopy(content, newIndex, copy, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(content, oldIndex + 1, copy, oldIndex + 2, content.length - oldIndex - 1);
+            return new BitmapNode(dataMap | bit, nodeMap ^ bit, copy);
+        }
+
+        static ChampNode merge(Object key0, Object value0, int hash0, Object key1, Object value1, int hash1, int shift) {
+            if (shift >= HASH_BITS) {
+                return new CollisionNode(hash0, new Object[] { key0, key1 }, new Object[] { value0, value1 });
+            }
+            int mask0 = (hash0 >>> shift) & MASK;
+            int mask1 = (hash1 >>> shift) & MASK;
+            if (mask0 != mask1) {
+                int dataMap = (1 << mask0) | (1 << mask1);
+                return mask0 < mask1
+                        ? new BitmapNode(dataMap, 0, new Object[] { key0, value0, key1, value1 })
+                        : new BitmapNode(dataMap, 0, new Object[] { key1, value1, key0, value0 });
+            }
+            ChampNode sub = merge(key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new BitmapNode(0, 1 << mask0, new Object[] { sub });
+        }
+    }
+
+    // ----------------- Collision node -----------------
+
+    // Claves con el mismo hash completo, una vez agotados los 32 bits
+    static final class CollisionNode extends ChampNode {
+        final int hash;
+        final Object[] keys;
+        final Object[] values;
+
+        CollisionNode(int hash, Object[] keys, Object[] values) {
+            this.hash = hash;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < keys.length; i++)
+                if (Objects.equals(keys[i], key)) return i;
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int i = indexOf(key);
+            return i < 0 ? NOT_FOUND : values[i];
+        }
+
+        @Override
+        ChampNode put(Object key, Object value, int hash, int shift, Change change) {
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (values[i] == value) return this;
+                Object[] copy = values.clone();
+                copy[i] = value;
+                change.modified = true;
+                return new CollisionNode(hash, keys, copy);
+            }
+            change.modified = true;
+            change.sizeDelta = 1;
+            Object[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            Object[] newValues = Arrays.copyOf(values, values.length + 1);
+            newKeys[keys.length] = key;
+            newValues[values.length] = value;
+            return new CollisionNode(hash, newKeys, newValues);
+        }
+
+        @Override
+        ChampNode remove(Object key, int hash, int shift, Change change) {
+            int i = indexOf(key);
+            if (i < 0) return this;
+            change.modified = true;
+            change.sizeDelta = -1;
+            if (keys.length == 2) {
+                int other = 1 - i;
+                return new BitmapNode(1 << (hash & MASK), 0, new Object[] { keys[other], values[other] });
+            }
+            Object[] newKeys = new Object[keys.length - 1];
+            Object[] newValues = new Object[values.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(values, 0, newValues, 0, i);
+            System.arraycopy(values, i + 1, newValues, i, values.length - i - 1);
+            return new CollisionNode(hash, newKeys, newValues);
+        }
+
+        @Override
+        void forEach(BiConsumer<Object, Object> action) {
+            for (int i = 0; i < keys.length; i++) action.accept(keys[i], values[i]);
+        }
+
+        @Override
+        boolean isSingleton() {
+            return false;
+        }
+
+        @Override
+        Object singleKey() {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        Object singleValue() {
+            throw new IllegalStateException();
+        }
+    }
+}
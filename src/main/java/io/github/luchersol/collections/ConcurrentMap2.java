@@ -0,0 +1,281 @@
+package io.github.luchersol.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Counterpart of {@link Map2} backed by a {@link ConcurrentHashMap}, safe to read and modify
+ * from many threads without external locking.
+ * <p>
+ * Reads never lock. Writes lock only the hash bin of the affected key, so threads working on
+ * different keys rarely contend; the size is kept in striped counters, so {@link #size()} does
+ * not become a hot spot either. The atomic operations of {@link ConcurrentMap}
+ * ({@code putIfAbsent}, {@code compute}, {@code merge}...) run the given function while holding
+ * the bin lock, so those functions should be short. Iteration is weakly consistent, and
+ * {@code null} keys or values are not allowed.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class ConcurrentMap2<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private final ConcurrentHashMap<K, V> inner;
+
+    // ----------------- Inner -----------------
+
+    public ConcurrentMap<K, V> toMap() {
+        return inner;
+    }
+
+    public Map<K,V> toUnmodifiableMap() {
+        return Collections.unmodifiableMap(inner);
+    }
+
+    // ----------------- Constructors -----------------
+
+    public ConcurrentMap2() {
+        this.inner = new ConcurrentHashMap<>();
+    }
+
+    public ConcurrentMap2(Map<? extends K, ? extends V> other) {
+        this.inner = new ConcurrentHashMap<>(other);
+    }
+
+    public static <K,V> ConcurrentMap2<K,V> of(Map<? extends K, ? extends V> map) {
+        return new ConcurrentMap2<>(map);
+    }
+
+    public static <K, V> ConcurrentMap2<K, V> empty() {
+        return new ConcurrentMap2<>();
+    }
+
+    public static <K, V> ConcurrentMap2<K, V> of(K key0, V val0) {
+        ConcurrentMap2<K, V> result = empty();
+        result.put(key0, val0);
+        return result;
+    }
+
+    public static <K, V> ConcurrentMap2<K, V> of(K key0, V val0, K key1, V val1) {
+        ConcurrentMap2<K, V> result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        return result;
+    }
+
+    public static <K, V> ConcurrentMap2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2) {
+        ConcurrentMap2<K, V> result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        result.put(key2, val2);
+        return result;
+    }
+
+    @SafeVarargs
+    public static <K,V> ConcurrentMap2<K,V> ofEntries(Entry<? extends K, ? extends V>... entries) {
+        ConcurrentMap2<K,V> result = empty();
+        for (Entry<? extends K,? extends V> entry : entries) 
+            result.put(entry.getKey(), entry.getValue());
+        return result;
+    }
+
+    public ConcurrentMap2<K, V> copy() {
+        return new ConcurrentMap2<>(inner);
+    }
+
+    // ----------------- Basic Operators -----------------
+
+    @Override
+    public V put(K arg0, V arg1) {
+        return inner.put(arg0, arg1);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return inner.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        inner.clear();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return inner.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return inner.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return inner.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return inner.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public int size() {
+        return inner.size();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return inner.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return inner.values();
+    }
+
+    // ----------------- Atomic Operators -----------------
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return inner.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return inner.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        return inner.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        return inner.replace(key, value);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        return inner.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return inner.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return inner.compute(key, remappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        return inner.merge(key, value, remappingFunction);
+    }
+
+    // ----------------- Filters and mappers -----------------
+
+    public ConcurrentMap2<K, V> filter(BiPredicate<? super K, ? super V> predicate) {
+        ConcurrentMap2<K, V> result = empty();
+        inner.forEach((key, value) -> {
+            if (predicate.test(key, value)) result.put(key, value);
+        });
+        return result;
+    }
+
+    public <R> ConcurrentMap2<K, R> mapValues(Function<? super V, ? extends R> mapper) {
+        ConcurrentMap2<K, R> result = new ConcurrentMap2<>();
+        inner.forEach((key, value) -> result.put(key, mapper.apply(value)));
+        return result;
+    }
+
+    public long count(BiPredicate<? super K, ? super V> predicate) {
+        return inner.reduceToLong(Long.MAX_VALUE, (key, value) -> predicate.test(key, value) ? 1L : 0L, 0L, Long::sum);
+    }
+
+    // ----------------- Iteration -----------------
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        inner.forEach(action);
+    }
+
+    public void forEachKey(Consumer<? super K> action) {
+        for (K key : inner.keySet()) action.accept(key);
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        for (V value : inner.values()) action.accept(value);
+    }
+
+    // ----------------- Controlled EntrySet -----------------
+
+    // Cada entrada es una copia: modificarla no altera el mapa
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Entry<K, V>> it = inner.entrySet().iterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Entry<K, V> e = it.next();
+                        return new SimpleEntry<>(e);
+                    }
+
+                    @Override
+                    public void remove() {
+                        it.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return inner.size();
+            }
+        };
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return inner.equals(o instanceof ConcurrentMap2<?, ?> other ? other.inner : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return inner.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return inner.toString();
+    }
+
+}
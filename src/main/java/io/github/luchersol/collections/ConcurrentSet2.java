@@ -0,0 +1,113 @@
+package io.github.luchersol.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@link Set2} backed by a {@link ConcurrentHashMap} key set, safe to read and modify from many
+ * threads without external locking.
+ * <p>
+ * Lookups never lock. Inserts and removals lock only the hash bin they touch, so threads that
+ * write different elements rarely contend and throughput keeps growing with the thread count.
+ * Iteration is weakly consistent: it never throws {@code ConcurrentModificationException} and
+ * reflects some, but not necessarily all, concurrent updates. {@code null} elements are not
+ * allowed.
+ *
+ * @param <E> the type of elements in this set
+ */
+public class ConcurrentSet2<E> extends Set2<E> {
+
+    // ----------------- Constructors -----------------
+
+    public ConcurrentSet2() {
+        this.inner = ConcurrentHashMap.newKeySet();
+    }
+
+    public ConcurrentSet2(Collection<? extends E> c) {
+        this.inner = ConcurrentHashMap.newKeySet(Math.max(16, c.size()));
+        this.inner.addAll(c);
+    }
+
+    public static <E> ConcurrentSet2<E> empty() {
+        return new ConcurrentSet2<>();
+    }
+
+    public static <E> ConcurrentSet2<E> of(Collection<E> c) {
+        return new ConcurrentSet2<>(c);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> ConcurrentSet2<E> of(E... arg0) {
+        return new ConcurrentSet2<>(Arrays.asList(arg0));
+    }
+
+    @Override
+    public ConcurrentSet2<E> copy() {
+        return new ConcurrentSet2<>(inner);
+    }
+
+    // ----------------- Filters and mappers -----------------
+
+    @Override
+    public ConcurrentSet2<E> filter(Predicate<? super E> predicate) {
+        ConcurrentSet2<E> result = empty();
+        for (E e : this.inner) 
+            if(predicate.test(e)) result.add(e);
+        return result;
+    }
+
+    @Override
+    public <R> ConcurrentSet2<R> map(Function<? super E, ? extends R> mapper) {
+        ConcurrentSet2<R> result = empty();
+        for (E e : this.inner) 
+            result.add(mapper.apply(e));
+        return result;
+    }
+
+    @Override
+    public ConcurrentSet2<E> parallelFilter(Predicate<? super E> predicate, ForkJoinPool pool) {
+        return new ConcurrentSet2<>(ParallelOps.filter(inner, predicate, pool, ArrayList::new));
+    }
+
+    @Override
+    public <R> ConcurrentSet2<R> parallelMap(Function<? super E, ? extends R> mapper, ForkJoinPool pool) {
+        return new ConcurrentSet2<>(ParallelOps.map(inner, mapper, pool, ArrayList::new));
+    }
+
+    @Override
+    public ConcurrentSet2<E> distinct() {
+        return copy();
+    }
+
+    // ----------------- Combination and extraction -----------------
+
+    @Override
+    public ConcurrentSet2<E> difference(Collection<? extends E> other) {
+        return (ConcurrentSet2<E>) super.difference(other);
+    }
+
+    @Override
+    public ConcurrentSet2<E> union(Collection<? extends E> other) {
+        ConcurrentSet2<E> result = copy();
+        result.addAll(other);
+        return result;
+    }
+
+    @Override
+    public ConcurrentSet2<E> intersection(Collection<? extends E> other) {
+        if (other instanceof Set<?> set && set.size() > size()) 
+            return filter(set::contains);
+        ConcurrentSet2<E> result = empty();
+        for (E e : other) 
+            if (inner.contains(e)) result.add(e);
+        return result;
+    }
+
+}
@@ -0,0 +1,225 @@
+package io.github.luchersol.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// Lista copy-on-write propia de CopyOnWriteList2: como CopyOnWriteArrayList, las lecturas leen el
+// array publicado sin cerrojo y cada escritura publica una copia bajo un cerrojo privado, pero
+// además permite sustituir el array entero con una transformación arbitraria (rewrite)
+final class CopyOnWriteArray<E> extends AbstractList<E> implements RandomAccess {
+
+    private final Object lock = new Object();
+    private volatile Object[] array;
+
+    CopyOnWriteArray() {
+        this.array = new Object[0];
+    }
+
+    CopyOnWriteArray(Collection<? extends E> c) {
+        Object[] a = c.toArray();
+        this.array = a.getClass() == Object[].class ? a : Arrays.copyOf(a, a.length, Object[].class);
+    }
+
+    CopyOnWriteArray(Object[] array) {
+        this.array = array;
+    }
+
+    // Instantánea, reordenación y publicación bajo el mismo cerrojo que el resto de escrituras;
+    // si la transformación lanza una excepción el array publicado no cambia
+    void rewrite(UnaryOperator<Object[]> transform) {
+        synchronized (lock) {
+            array = transform.apply(array.clone());
+        }
+    }
+
+    // ----------------- Reads -----------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Object[] a = array;
+        return (E) a[Objects.checkIndex(index, a.length)];
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return array.clone();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] a) {
+        Object[] snapshot = array;
+        if (a.length < snapshot.length) return (T[]) Arrays.copyOf(snapshot, snapshot.length, a.getClass());
+        System.arraycopy(snapshot, 0, a, 0, snapshot.length);
+        if (a.length > snapshot.length) a[snapshot.length] = null;
+        return a;
+    }
+
+    // Los iteradores recorren la instantánea del momento en que se crean y no admiten escrituras
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        return (Iterator<E>) Collections.unmodifiableList(Arrays.asList(array)).iterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<E> listIterator(int index) {
+        return (ListIterator<E>) Collections.unmodifiableList(Arrays.asList(array)).listIterator(index);
+    }
+
+    // ----------------- Writes -----------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        synchronized (lock) {
+            Object[] a = array.clone();
+            E previous = (E) a[Objects.checkIndex(index, a.length)];
+            a[index] = element;
+            array = a;
+            return previous;
+        }
+    }
+
+    @Override
+    public boolean add(E e) {
+        synchronized (lock) {
+            Object[] a = Arrays.copyOf(array, array.length + 1);
+            a[a.length - 1] = e;
+            array = a;
+            return true;
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            Object[] current = array;
+            Objects.checkIndex(index, current.length + 1);
+            Object[] a = new Object[current.length + 1];
+            System.arraycopy(current, 0, a, 0, index);
+            a[index] = element;
+            System.arraycopy(current, index, a, index + 1, current.length - index);
+            array = a;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        synchronized (lock) {
+            Object[] current = array;
+            E previous = (E) current[Objects.checkIndex(index, current.length)];
+            Object[] a = new Object[current.length - 1];
+            System.arraycopy(current, 0, a, 0, index);
+            System.arraycopy(current, index + 1, a, index, current.length - index - 1);
+            array = a;
+            return previous;
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        synchronized (lock) {
+            int index = indexOf(o);
+            if (index < 0) return false;
+            remove(index);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        Object[] added = c.toArray();
+        synchronized (lock) {
+            Object[] current = array;
+            Objects.checkIndex(index, current.length + 1);
+            if (added.length == 0) return false;
+            Object[] a = new Object[current.length + added.length];
+            System.arraycopy(current, 0, a, 0, index);
+            System.arraycopy(added, 0, a, index, added.length);
+            System.arraycopy(current, index, a, index + added.length, current.length - index);
+            array = a;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        synchronized (lock) {
+            Object[] current = array;
+            Object[] kept = new Object[current.length];
+            int size = 0;
+            for (Object e : current)
+                if (!filter.test((E) e)) kept[size++] = e;
+            if (size == current.length) return false;
+            array = Arrays.copyOf(kept, size);
+            return true;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            array = new Object[0];
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<E> operator) {
+        rewrite(a -> {
+            for (int i = 0; i < a.length; i++) a[i] = operator.apply((E) a[i]);
+            return a;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        rewrite(a -> {
+            Arrays.sort(a, (Comparator<Object>) c);
+            return a;
+        });
+    }
+
+}
@@ -0,0 +1,170 @@
+package io.github.luchersol.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@link List2} backed by a copy-on-write array, like {@link CopyOnWriteArrayList}, for lists
+ * that are read and iterated by many threads and modified rarely.
+ * <p>
+ * Reads and iteration never lock and always see a consistent snapshot, so they scale with the
+ * number of threads. Every write copies the whole backing array under a single lock, so writers
+ * are serialized and each write costs O(n); under frequent writes prefer a {@link List2} guarded
+ * externally. Derived lists ({@code toFilter}, {@code toMapped}...) are built in a plain buffer
+ * and copied once, and in-place reorderings ({@code reverse}, {@code shuffle}, {@code map}...)
+ * replace the array atomically in a single copy.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class CopyOnWriteList2<E> extends List2<E> {
+
+    // ----------------- Constructors -----------------
+
+    public CopyOnWriteList2() {
+        this.inner = new CopyOnWriteArray<>();
+    }
+
+    public CopyOnWriteList2(Collection<? extends E> c) {
+        this.inner = new CopyOnWriteArray<>(c);
+    }
+
+    // Adopta el array sin copiarlo: sólo para arrays recién creados
+    private CopyOnWriteList2(Object[] elements) {
+        this.inner = new CopyOnWriteArray<>(elements);
+    }
+
+    public static <E> CopyOnWriteList2<E> empty() {
+        return new CopyOnWriteList2<>();
+    }
+
+    public static <E> CopyOnWriteList2<E> of(Collection<E> c) {
+        return new CopyOnWriteList2<>(c);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E> CopyOnWriteList2<E> of(E... arg0) {
+        return new CopyOnWriteList2<>(Arrays.copyOf(arg0, arg0.length, Object[].class));
+    }
+
+    @Override
+    public CopyOnWriteList2<E> copy() {
+        return new CopyOnWriteList2<>(inner);
+    }
+
+    // ----------------- Filters and mappers -----------------
+
+    @Override
+    public CopyOnWriteList2<E> toFilter(Predicate<? super E> predicate) {
+        List<E> result = new ArrayList<>();
+        for (E e : inner)
+            if (predicate.test(e)) result.add(e);
+        return new CopyOnWriteList2<>(result);
+    }
+
+    @Override
+    public <R> CopyOnWriteList2<R> toMapped(Function<? super E, ? extends R> mapper) {
+        List<R> result = new ArrayList<>(inner.size());
+        for (E e : inner) result.add(mapper.apply(e));
+        return new CopyOnWriteList2<>(result);
+    }
+
+    @Override
+    public void map(Function<? super E, ? extends E> mapper) {
+        inner.replaceAll(mapper::apply);
+    }
+
+    @Override
+    public CopyOnWriteList2<E> parallelFilter(Predicate<? super E> predicate, ForkJoinPool pool) {
+        return new CopyOnWriteList2<>(super.parallelFilter(predicate, pool));
+    }
+
+    @Override
+    public <R> CopyOnWriteList2<R> parallelMap(Function<? super E, ? extends R> mapper, ForkJoinPool pool) {
+        return new CopyOnWriteList2<>(super.parallelMap(mapper, pool));
+    }
+
+    @Override
+    public CopyOnWriteList2<E> toDistinct() {
+        return new CopyOnWriteList2<>(new LinkedHashSet<>(inner));
+    }
+
+    @Override
+    public CopyOnWriteList2<E> toSorted(Comparator<? super E> comparator) {
+        List<E> result = new ArrayList<>(inner);
+        result.sort(comparator);
+        return new CopyOnWriteList2<>(result);
+    }
+
+    // ----------------- Reorderings -----------------
+
+    @Override
+    public void reverse() {
+        rewrite(Collections::reverse);
+    }
+
+    @Override
+    public void shuffle() {
+        rewrite(Collections::shuffle);
+    }
+
+    @Override
+    public void rotateRight(int distance) {
+        rewrite(list -> Collections.rotate(list, distance));
+    }
+
+    @Override
+    public void rotateLeft(int distance) {
+        rewrite(list -> Collections.rotate(list, -distance));
+    }
+
+    @Override
+    public void swap(int i, int j) {
+        rewrite(list -> {
+            Objects.checkIndex(i, list.size());
+            Objects.checkIndex(j, list.size());
+            Collections.swap(list, i, j);
+        });
+    }
+
+    // La reordenación trabaja sobre una copia privada del array y sólo se publica si termina bien
+    private void rewrite(Consumer<List<Object>> reorder) {
+        array().rewrite(a -> {
+            reorder.accept(Arrays.asList(a));
+            return a;
+        });
+    }
+
+    private CopyOnWriteArray<E> array() {
+        return (CopyOnWriteArray<E>) inner;
+    }
+
+    // ----------------- Combination and extraction -----------------
+
+    @Override
+    public CopyOnWriteList2<E> difference(Collection<? extends E> other) {
+        return new CopyOnWriteList2<>(List2.of(inner).difference(other));
+    }
+
+    @Override
+    public CopyOnWriteList2<E> union(Collection<? extends E> other) {
+        return new CopyOnWriteList2<>(List2.of(inner).union(other));
+    }
+
+    @Override
+    public CopyOnWriteList2<E> intersection(Collection<? extends E> other) {
+        return new CopyOnWriteList2<>(List2.of(inner).intersection(other));
+    }
+
+}
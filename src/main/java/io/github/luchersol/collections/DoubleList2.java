@@ -0,0 +1,463 @@
+package io.github.luchersol.collections;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+public class DoubleList2 {
+
+    private static final double[] EMPTY_DATA = {};
+
+    protected double[] data;
+    protected int size;
+
+    // ----------------- Constructors -----------------
+
+    public DoubleList2() {
+        this.data = EMPTY_DATA;
+    }
+
+    public DoubleList2(int initialCapacity) {
+        PrimitiveLists.checkCapacity(initialCapacity);
+        this.data = initialCapacity == 0 ? EMPTY_DATA : new double[initialCapacity];
+    }
+
+    public DoubleList2(double[] values) {
+        this.data = values.length == 0 ? EMPTY_DATA : values.clone();
+        this.size = values.length;
+    }
+
+    public DoubleList2(DoubleList2 other) {
+        this.data = Arrays.copyOf(other.data, other.size);
+        this.size = other.size;
+    }
+
+    private DoubleList2(double[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    // Adopta un array recién construido; si está muy por encima de size se recorta
+    private static DoubleList2 trimmed(double[] data, int size) {
+        return new DoubleList2(PrimitiveLists.isOversized(size, data.length) ? Arrays.copyOf(data, size) : data, size);
+    }
+
+    public static DoubleList2 empty() {
+        return new DoubleList2();
+    }
+
+    public static DoubleList2 of(double... values) {
+        return new DoubleList2(values);
+    }
+
+    public static DoubleList2 of(List<Double> values) {
+        double[] data = new double[values.size()];
+        int i = 0;
+        for (Double value : values) data[i++] = value;
+        return new DoubleList2(data, data.length);
+    }
+
+    public DoubleList2 copy() {
+        return new DoubleList2(this);
+    }
+
+    // ----------------- Inner -----------------
+
+    public double[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    public List2<Double> boxed() {
+        List2<Double> result = new List2<>();
+        for (int i = 0; i < size; i++) result.add(data[i]);
+        return result;
+    }
+
+    public DoubleStream stream() {
+        return Arrays.stream(data, 0, size);
+    }
+
+    // ----------------- Basic operations -----------------
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(int index) {
+        Objects.checkIndex(index, size);
+        return data[index];
+    }
+
+    public double set(int index, double value) {
+        Objects.checkIndex(index, size);
+        double previous = data[index];
+        data[index] = value;
+        return previous;
+    }
+
+    public void add(double value) {
+        if (size == data.length) grow(size + 1);
+        data[size++] = value;
+    }
+
+    public void add(int index, double value) {
+        Objects.checkIndex(index, size + 1);
+        if (size == data.length) grow(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size++;
+    }
+
+    public void addAll(double... values) {
+        addAll(values, values.length);
+    }
+
+    public void addAll(DoubleList2 other) {
+        addAll(other.data, other.size);
+    }
+
+    private void addAll(double[] values, int length) {
+        if (size + length > data.length) grow(size + length);
+        System.arraycopy(values, 0, data, size, length);
+        size += length;
+    }
+
+    public double removeAt(int index) {
+        Objects.checkIndex(index, size);
+        double previous = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) grow(minCapacity);
+    }
+
+    public void trimToSize() {
+        if (size < data.length) data = size == 0 ? EMPTY_DATA : Arrays.copyOf(data, size);
+    }
+
+    private void grow(int minCapacity) {
+        data = Arrays.copyOf(data, PrimitiveLists.newCapacity(data.length, minCapacity));
+    }
+
+    public void forEach(DoubleConsumer action) {
+        for (int i = 0; i < size; i++) action.accept(data[i]);
+    }
+
+    // ----------------- Gets with default or optional values -----------------
+
+    public double getOrElse(int index, double defaultValue) {
+        return index < 0 || index >= size ? defaultValue : data[index];
+    }
+
+    public double getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[0];
+    }
+
+    public double getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[size - 1];
+    }
+
+    public OptionalDouble findFirst() {
+        return size == 0 ? OptionalDouble.empty() : OptionalDouble.of(data[0]);
+    }
+
+    public OptionalDouble findLast() {
+        return size == 0 ? OptionalDouble.empty() : OptionalDouble.of(data[size - 1]);
+    }
+
+    // ----------------- Checkers -----------------
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(double value) {
+        for (int i = 0; i < size; i++)
+            if (Double.compare(data[i], value) == 0) return i;
+        return -1;
+    }
+
+    public int lastIndexOf(double value) {
+        for (int i = size - 1; i >= 0; i--)
+            if (Double.compare(data[i], value) == 0) return i;
+        return -1;
+    }
+
+    public boolean containsAny(double... values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < size; i++)
+            if (Arrays.binarySearch(sorted, data[i]) >= 0) return true;
+        return false;
+    }
+
+    public boolean isSorted() {
+        for (int i = 0; i < size - 1; i++)
+            if (Double.compare(data[i], data[i + 1]) > 0) return false;
+        return true;
+    }
+
+    // ----------------- Count and statistics -----------------
+
+    public long count(DoublePredicate predicate) {
+        long count = 0L;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) count++;
+        return count;
+    }
+
+    public OptionalDouble findMax() {
+        if (size == 0) return OptionalDouble.empty();
+        double max = data[0];
+        for (int i = 1; i < size; i++)
+            if (Double.compare(data[i], max) > 0) max = data[i];
+        return OptionalDouble.of(max);
+    }
+
+    public double max() {
+        return findMax().getAsDouble();
+    }
+
+    public double maxOrElse(double defaultValue) {
+        return findMax().orElse(defaultValue);
+    }
+
+    public OptionalDouble findMin() {
+        if (size == 0) return OptionalDouble.empty();
+        double min = data[0];
+        for (int i = 1; i < size; i++)
+            if (Double.compare(data[i], min) < 0) min = data[i];
+        return OptionalDouble.of(min);
+    }
+
+    public double min() {
+        return findMin().getAsDouble();
+    }
+
+    public double minOrElse(double defaultValue) {
+        return findMin().orElse(defaultValue);
+    }
+
+    // ----------------- Getters -----------------
+
+    public DoubleList2 choose(int... indexes) {
+        PrimitiveLists.checkIndexes(indexes, size);
+        double[] result = new double[indexes.length];
+        for (int i = 0; i < indexes.length; i++) result[i] = data[indexes[i]];
+        return new DoubleList2(result, result.length);
+    }
+
+    // ----------------- Filters and mappers -----------------
+
+    public DoubleList2 toFilter(DoublePredicate predicate) {
+        double[] result = new double[size];
+        int n = 0;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) result[n++] = data[i];
+        return trimmed(result, n);
+    }
+
+    public void filter(DoublePredicate predicate) {
+        int n = 0;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) data[n++] = data[i];
+        size = n;
+    }
+
+    public DoubleList2 toMapped(DoubleUnaryOperator mapper) {
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) result[i] = mapper.applyAsDouble(data[i]);
+        return new DoubleList2(result, size);
+    }
+
+    public void map(DoubleUnaryOperator mapper) {
+        for (int i = 0; i < size; i++) data[i] = mapper.applyAsDouble(data[i]);
+    }
+
+    public <R> List2<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        List2<R> result = new List2<>();
+        for (int i = 0; i < size; i++) result.add(mapper.apply(data[i]));
+        return result;
+    }
+
+    public DoubleList2 toDistinct() {
+        DoubleList2 result = copy();
+        result.distinct();
+        if (PrimitiveLists.isOversized(result.size, result.data.length)) result.trimToSize();
+        return result;
+    }
+
+    // Mantiene la primera aparición de cada valor: O(n log n) y sin boxing
+    public void distinct() {
+        double[] unique = sortedUnique(data, size);
+        boolean[] seen = new boolean[unique.length];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            int index = Arrays.binarySearch(unique, data[i]);
+            if (!seen[index]) {
+                seen[index] = true;
+                data[n++] = data[i];
+            }
+        }
+        size = n;
+    }
+
+    public DoubleList2 toSorted() {
+        DoubleList2 result = copy();
+        result.sort();
+        return result;
+    }
+
+    public void sort() {
+        Arrays.sort(data, 0, size);
+    }
+
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) swap(i, j);
+    }
+
+    public void shuffle() {
+        shuffle(new Random());
+    }
+
+    public void shuffle(Random random) {
+        for (int i = size - 1; i > 0; i--) swap(i, random.nextInt(i + 1));
+    }
+
+    public void rotateRight(int distance) {
+        if (size == 0) return;
+        distance = Math.floorMod(distance, size);
+        if (distance == 0) return;
+        double[] rotated = new double[size];
+        System.arraycopy(data, size - distance, rotated, 0, distance);
+        System.arraycopy(data, 0, rotated, distance, size - distance);
+        System.arraycopy(rotated, 0, data, 0, size);
+    }
+
+    public void rotateLeft(int distance) {
+        rotateRight(-distance);
+    }
+
+    public void swap(int i, int j) {
+        Objects.checkIndex(i, size);
+        Objects.checkIndex(j, size);
+        double temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+
+    // ----------------- Combination and extraction -----------------
+
+    public void concat(DoubleList2... others) {
+        for (DoubleList2 other : others) addAll(other);
+    }
+
+    public DoubleList2 difference(DoubleList2 other) {
+        double[] sorted = sortedUnique(other.data, other.size);
+        return toFilter(value -> Arrays.binarySearch(sorted, value) < 0);
+    }
+
+    public DoubleList2 union(DoubleList2 other) {
+        DoubleList2 result = copy();
+        result.ensureCapacity(size + other.size);
+        double[] seen = sortedUnique(data, size);
+        double[] candidates = new double[other.size];
+        int n = 0;
+        for (int i = 0; i < other.size; i++)
+            if (Arrays.binarySearch(seen, other.data[i]) < 0) candidates[n++] = other.data[i];
+        DoubleList2 added = new DoubleList2(candidates, n);
+        added.distinct();
+        result.addAll(added);
+        return result;
+    }
+
+    public DoubleList2 intersection(DoubleList2 other) {
+        double[] sorted = sortedUnique(other.data, other.size);
+        return toFilter(value -> Arrays.binarySearch(sorted, value) >= 0);
+    }
+
+    public DoubleList2 subListSafe(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(size, to);
+        if (from >= to) return empty();
+        return new DoubleList2(Arrays.copyOfRange(data, from, to), to - from);
+    }
+
+    public List2<DoubleList2> split(int chunkSize) {
+        PrimitiveLists.checkChunkSize(chunkSize);
+        List2<DoubleList2> result = new List2<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int to = Math.min(size, from + chunkSize);
+            result.add(new DoubleList2(Arrays.copyOfRange(data, from, to), to - from));
+        }
+        return result;
+    }
+
+    private static double[] sortedUnique(double[] values, int length) {
+        double[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < length; i++)
+            if (n == 0 || Double.compare(sorted[n - 1], sorted[i]) != 0) sorted[n++] = sorted[i];
+        return n == length ? sorted : Arrays.copyOf(sorted, n);
+    }
+
+    // ----------------- toString -----------------
+
+    public String toString(String sep, String prefix, String suffix) {
+        StringBuilder result = new StringBuilder(prefix);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) result.append(sep);
+            result.append(data[i]);
+        }
+        return result.append(suffix).toString();
+    }
+
+    public String toString(String prefix, String suffix) {
+        return toString("\n", prefix, suffix);
+    }
+
+    @Override
+    public String toString() {
+        return toString("", "");
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DoubleList2 other) || other.size != size) return false;
+        for (int i = 0; i < size; i++)
+            if (Double.compare(data[i], other.data[i]) != 0) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) hash = 31 * hash + Double.hashCode(data[i]);
+        return hash;
+    }
+}
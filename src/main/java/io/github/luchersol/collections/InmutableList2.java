@@ -1,6 +1,7 @@
 package io.github.luchersol.collections;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -10,152 +11,222 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import io.github.luchersol.Checker;
 
 public class InmutableList2<E> extends AbstractList2<E> {
+
+    // Vector persistente: las "modificaciones" comparten todos los nodos salvo el camino tocado
+    private final PersistentVector<E> vector;
     
     // ----------------- Constructors -----------------
 
     public InmutableList2() {
-        this.inner = new ArrayList<>();
+        this(PersistentVector.empty());
     }
 
     public InmutableList2(Collection<? extends E> c) {
-        this.inner = new ArrayList<>(c);
+        this(PersistentVector.of(c.toArray()));
     }
 
     public InmutableList2(List<? extends E> c) {
-        this.inner = new ArrayList<>(c);
+        this(PersistentVector.of(c.toArray()));
+    }
+
+    private InmutableList2(PersistentVector<E> vector) {
+        this.vector = vector;
+        this.inner = vector;
     }
 
-    public static <E> List2<E> empty() {
-        return new List2<E>();
+    public static <E> InmutableList2<E> empty() {
+        return new InmutableList2<E>();
     }
 
-    public static <E> List2<E> of(Collection<E> c) {
-        return new List2<>(c);
+    public static <E> InmutableList2<E> of(Collection<E> c) {
+        return c instanceof InmutableList2<E> list ? list : new InmutableList2<>(c);
     } 
 
     @SafeVarargs
-    public static <E> List2<E> of(E... arg0) {
-        return new List2<>(List.of(arg0));
+    @SuppressWarnings("varargs") // PersistentVector.of sólo lee el array y lo copia a sus hojas
+    public static <E> InmutableList2<E> of(E... arg0) {
+        return new InmutableList2<>(PersistentVector.of(arg0));
+    }
+
+    private static <E> InmutableList2<E> ofArray(Object[] elements) {
+        return new InmutableList2<>(PersistentVector.of(elements));
+    }
+
+    public InmutableList2<E> copy() {
+        return this;
     }
 
-    public List2<E> copy() {
-        return of(this);
+    public List2<E> toList2() {
+        return new List2<>(vector);
     }
 
+    // ----------------- Persistent updates -----------------
+
+    public InmutableList2<E> with(int index, E element) {
+        return new InmutableList2<>(vector.with(index, element));
+    }
+
+    public InmutableList2<E> append(E element) {
+        return new InmutableList2<>(vector.append(element));
+    }
+
+    public InmutableList2<E> prepend(E element) {
+        return new InmutableList2<>(vector.prepend(element));
+    }
+
+    // Se recorre la lista más corta: O(min(n, m) log n)
+    public InmutableList2<E> appendAll(List<? extends E> other) {
+        if (other.isEmpty()) return this;
+        PersistentVector<E> result = vector;
+        if (other.size() <= size() || !(other instanceof InmutableList2<?>)) {
+            for (E e : other) result = result.append(e);
+        } else {
+            @SuppressWarnings("unchecked")
+            PersistentVector<E> right = ((InmutableList2<E>) other).vector;
+            result = right;
+            for (int i = size() - 1; i >= 0; i--) result = result.prepend(get(i));
+        }
+        return new InmutableList2<>(result);
+    }
+
+    @Override
+    public InmutableList2<E> subList(int fromIndex, int toIndex) {
+        return new InmutableList2<>(vector.slice(fromIndex, toIndex));
+    }
     
     // ----------------- Getters -----------------
     
-    public List2<E> choose(List<Integer> indexes) {
-        List2<E> result = empty();
+    public InmutableList2<E> choose(List<Integer> indexes) {
         boolean validIndexes = indexes.stream().allMatch(i -> i >= 0 && i < size());
         Checker.check(validIndexes, "Todos los indices deben existir entre 0 y la longitud de la lista");
-        for(int index: indexes) result.add(get(index));
-        return result;
+        Object[] result = new Object[indexes.size()];
+        int n = 0;
+        for(int index: indexes) result[n++] = get(index);
+        return ofArray(result);
     }
     
     // ----------------- Filters and mappers -----------------
 
-    public List2<E> filter(Predicate<? super E> predicate) {
-        List2<E> result = empty();
+    public InmutableList2<E> filter(Predicate<? super E> predicate) {
+        List<E> result = new ArrayList<>();
         for (E e : this.inner) 
             if(predicate.test(e)) result.add(e);
-        return result;
+        return ofArray(result.toArray());
     }
 
-    public <R> List2<R> map(Function<? super E, ? extends R> mapper) {
-        List2<R> result = empty();
+    public <R> InmutableList2<R> map(Function<? super E, ? extends R> mapper) {
+        Object[] result = new Object[size()];
+        int n = 0;
         for (E e : this.inner) 
-            result.add(mapper.apply(e));
-        return result;
+            result[n++] = mapper.apply(e);
+        return ofArray(result);
     }
 
-    public List2<E> distinct() {
-        Set<E> seen = new HashSet<>();
-        List2<E> result = new List2<>();
+    public InmutableList2<E> distinct() {
+        Set<E> seen = HashSet.newHashSet(size());
+        List<E> result = new ArrayList<>();
         for (E e : this.inner) 
             if (seen.add(e)) result.add(e);
-        return result;
+        return ofArray(result.toArray());
     }
 
-    public List2<E> sortBy(Comparator<? super E> comparator) {
-        List2<E> result = copy();
-        Collections.sort(result, comparator);
-        return result;
+    @SuppressWarnings("unchecked")
+    public InmutableList2<E> sortBy(Comparator<? super E> comparator) {
+        Object[] result = toArray();
+        Arrays.sort(result, (Comparator<Object>) comparator);
+        return ofArray(result);
     }
 
-    public List2<E> reverse() {
-        List2<E> result = copy();
-        Collections.reverse(result);
-        return result;
+    public InmutableList2<E> reverse() {
+        Object[] result = new Object[size()];
+        int n = result.length;
+        for (E e : this.inner) 
+            result[--n] = e;
+        return ofArray(result);
     }
 
-    public List2<E> shuffle() {
-        List2<E> result = copy();
+    public InmutableList2<E> shuffle() {
+        List<Object> result = Arrays.asList(toArray());
         Collections.shuffle(result);
-        return result;
+        return ofArray(result.toArray());
     }
 
-    public List2<E> rotateRight(int distance) {
-        List2<E> result = copy();
-        Collections.rotate(result, distance);
-        return result;
+    public InmutableList2<E> rotateRight(int distance) {
+        int n = size();
+        if (n == 0) return this;
+        int d = Math.floorMod(distance, n);
+        if (d == 0) return this;
+        return subList(n - d, n).appendAll(subList(0, n - d));
     }
 
-    public List2<E> rotateLeft(int distance) {
-        List2<E> result = copy();
-        Collections.rotate(result, -distance);
-        return result;
+    public InmutableList2<E> rotateLeft(int distance) {
+        return rotateRight(-distance);
     }
 
-    public List2<E> swap(int i, int j) {
-        List2<E> result = copy();
-        result.set(i, get(j));
-        result.set(j, get(i));
-        return result;
+    public InmutableList2<E> swap(int i, int j) {
+        E first = get(i);
+        return new InmutableList2<>(vector.with(i, get(j)).with(j, first));
     }
 
     // ----------------- Combination and extraction -----------------
 
-    public final List2<E> concat(Collection<Collection<? extends E>> collections) {
-        List2<E> result = copy();
-        collections.forEach(result::addAll);
-        return result;
+    public final InmutableList2<E> concat(Collection<Collection<? extends E>> collections) {
+        PersistentVector<E> result = vector;
+        for (Collection<? extends E> collection : collections)
+            for (E e : collection) result = result.append(e);
+        return new InmutableList2<>(result);
     }
 
     @SafeVarargs
-    public final List2<E> concat(Collection<? extends E>... collections) {
-        List2<E> result = copy();
-        for(Collection<? extends E> collection: collections) 
-            result.addAll(collection);
-        return result;
+    @SuppressWarnings("varargs") // La vista de Arrays.asList sólo se recorre
+    public final InmutableList2<E> concat(Collection<? extends E>... collections) {
+        return concat(Arrays.asList(collections));
     }
 
-    public List2<E> difference(Collection<? extends E> other){
-		List2<E> result = copy();
-        result.removeAll(other);
-		return result;
+    public InmutableList2<E> difference(Collection<? extends E> other){
+        Collection<?> exclude = lookup(other);
+        return filter(e -> !exclude.contains(e));
 	}
+
+    // Ambas listas ordenadas según cmp: recorrido de mezcla en O(n+m)
+    public InmutableList2<E> difference(List<? extends E> other, Comparator<? super E> cmp){
+        List<E> result = new ArrayList<>();
+        mergeFilter(this, other, cmp, false, result);
+        return ofArray(result.toArray());
+    }
 	
-	public List2<E> union(Collection<? extends E> other){
-        Set<E> seen = new HashSet<>(copy());
-        List2<E> result = copy();
+	public InmutableList2<E> union(Collection<? extends E> other){
+        Set<E> seen = new HashSet<>(inner);
+        PersistentVector<E> result = vector;
         for (E e : other) 
-            if (seen.add(e)) result.add(e);
-        return result;
+            if (seen.add(e)) result = result.append(e);
+        return new InmutableList2<>(result);
 	}
+
+    // Ambas listas ordenadas según cmp: el resultado sigue ordenado
+    public InmutableList2<E> union(List<? extends E> other, Comparator<? super E> cmp){
+        List<E> result = new ArrayList<>();
+        mergeUnion(this, other, cmp, result);
+        return ofArray(result.toArray());
+    }
 	
-	public List2<E> intersection(Collection<? extends E> other){
-		List2<E> result = copy();
-		result.retainAll(other);
-		return result;
+	public InmutableList2<E> intersection(Collection<? extends E> other){
+        Collection<?> keep = lookup(other);
+        return filter(keep::contains);
 	}
 
-    public List2<E> subListSafe(int from, int to) {
+    // Ambas listas ordenadas según cmp: recorrido de mezcla en O(n+m)
+    public InmutableList2<E> intersection(List<? extends E> other, Comparator<? super E> cmp){
+        List<E> result = new ArrayList<>();
+        mergeFilter(this, other, cmp, true, result);
+        return ofArray(result.toArray());
+    }
+
+    public InmutableList2<E> subListSafe(int from, int to) {
         int n = size();
 
         if (n == 0) return empty();
@@ -165,7 +236,7 @@ public class InmutableList2<E> extends AbstractList2<E> {
 
         if (from >= to) return empty();
 
-        return of(subList(from, to));
+        return subList(from, to);
     }
 
 
@@ -174,15 +245,21 @@ public class InmutableList2<E> extends AbstractList2<E> {
         return split(chunkSize, List2::new, innerSupplier);
     }
 
-    public List2<List2<E>> split(int chunkSize) {
-        return split(chunkSize, List2::new, List2::new);
+    public InmutableList2<InmutableList2<E>> split(int chunkSize) {
+        Checker.check(chunkSize > 0, "chunkSize must be > 0");
+        int n = size();
+        Object[] chunks = new Object[(n + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < chunks.length; i++) 
+            chunks[i] = subList(i * chunkSize, Math.min(n, (i + 1) * chunkSize));
+        return ofArray(chunks);
     }
 
     // ----------------- Advanced transformations -----------------
     
-    public static <E> List2<E> flatten(Collection<Collection<E>> collections) {
-        List<E> result = collections.stream().flatMap(Collection::stream).collect(Collectors.toList());
-        return of(result);
+    public static <E> InmutableList2<E> flatten(Collection<Collection<E>> collections) {
+        List<E> result = new ArrayList<>();
+        collections.forEach(result::addAll);
+        return ofArray(result.toArray());
     }
 
 }
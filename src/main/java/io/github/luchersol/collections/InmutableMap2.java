@@ -0,0 +1,246 @@
+package io.github.luchersol.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+public class InmutableMap2<K, V> extends AbstractMap<K, V> {
+
+    private static final InmutableMap2<?, ?> EMPTY = new InmutableMap2<>(ChampNode.EMPTY, 0);
+
+    // Trie CHAMP: cada versión comparte con la anterior todo salvo el camino modificado
+    private final ChampNode root;
+    private final int size;
+    // Caché al estilo de String: un único campo, 0 significa "sin calcular"
+    private int hash;
+
+    public record Diff<K, V>(Map<K, V> added, Map<K, V> removed, Map<K, V> changed) {
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+        }
+    }
+
+    // ----------------- Constructors -----------------
+
+    private InmutableMap2(ChampNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> InmutableMap2<K, V> empty() {
+        return (InmutableMap2<K, V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> InmutableMap2<K, V> of(Map<? extends K, ? extends V> map) {
+        if (map instanceof InmutableMap2<?, ?> other) return (InmutableMap2<K, V>) other;
+        return InmutableMap2.<K, V>empty().withAll(map);
+    }
+
+    public static <K, V> InmutableMap2<K, V> of(K key0, V val0) {
+        return InmutableMap2.<K, V>empty().with(key0, val0);
+    }
+
+    public static <K, V> InmutableMap2<K, V> of(K key0, V val0, K key1, V val1) {
+        return InmutableMap2.<K, V>empty().with(key0, val0).with(key1, val1);
+    }
+
+    public static <K, V> InmutableMap2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2) {
+        return InmutableMap2.<K, V>empty().with(key0, val0).with(key1, val1).with(key2, val2);
+    }
+
+    @SafeVarargs
+    public static <K, V> InmutableMap2<K, V> ofEntries(Entry<? extends K, ? extends V>... entries) {
+        InmutableMap2<K, V> result = empty();
+        for (Entry<? extends K, ? extends V> entry : entries)
+            result = result.with(entry.getKey(), entry.getValue());
+        return result;
+    }
+
+    public Map2<K, V> toMap2() {
+        Map2<K, V> result = Map2.empty();
+        forEach(result::put);
+        return result;
+    }
+
+    // ----------------- Persistent updates -----------------
+
+    public InmutableMap2<K, V> with(K key, V value) {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode updated = root.put(key, value, ChampNode.hash(key), 0, change);
+        return change.modified ? new InmutableMap2<>(updated, size + change.sizeDelta) : this;
+    }
+
+    public InmutableMap2<K, V> without(Object key) {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode updated = root.remove(key, ChampNode.hash(key), 0, change);
+        return change.modified ? new InmutableMap2<>(updated, size + change.sizeDelta) : this;
+    }
+
+    public InmutableMap2<K, V> withAll(Map<? extends K, ? extends V> map) {
+        ChampNode updated = root;
+        int newSize = size;
+        ChampNode.Change change = new ChampNode.Change();
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            change.sizeDelta = 0;
+            updated = updated.put(entry.getKey(), entry.getValue(), ChampNode.hash(entry.getKey()), 0, change);
+            newSize += change.sizeDelta;
+        }
+        return change.modified ? new InmutableMap2<>(updated, newSize) : this;
+    }
+
+    // ----------------- Versions -----------------
+
+    // Diferencias con otra versión: los sub árboles compartidos no se recorren
+    @SuppressWarnings("unchecked")
+    public Diff<K, V> diff(InmutableMap2<K, V> other) {
+        Map<K, V> added = new HashMap<>(), removed = new HashMap<>(), changed = new HashMap<>();
+        ChampNode.diff(root, other.root, 0, new ChampNode.DiffSink() {
+            @Override
+            public void added(Object key, Object value) {
+                added.put((K) key, (V) value);
+            }
+
+            @Override
+            public void removed(Object key, Object value) {
+                removed.put((K) key, (V) value);
+            }
+
+            @Override
+            public void changed(Object key, Object oldValue, Object newValue) {
+                changed.put((K) key, (V) newValue);
+            }
+        });
+        return new Diff<>(Collections.unmodifiableMap(added), Collections.unmodifiableMap(removed), Collections.unmodifiableMap(changed));
+    }
+
+    // ----------------- Basic Operators -----------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        Object value = root.find(key, ChampNode.hash(key), 0);
+        return value == ChampNode.NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        Object value = root.find(key, ChampNode.hash(key), 0);
+        return value == ChampNode.NOT_FOUND ? defaultValue : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return root.find(key, ChampNode.hash(key), 0) != ChampNode.NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        root.forEach((key, value) -> action.accept((K) key, (V) value));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachKey(Consumer<? super K> action) {
+        root.forEach((key, value) -> action.accept((K) key));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        root.forEach((key, value) -> action.accept((V) value));
+    }
+
+    public MapCursor<K, V> cursor() {
+        ChampNode.Cursor cursor = new ChampNode.Cursor(root);
+
+        return new MapCursor<>() {
+            private boolean positioned;
+
+            @Override
+            public boolean advance() {
+                return positioned = cursor.advance();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public K key() {
+                if (!positioned) throw new IllegalStateException("Cursor is not positioned on an entry");
+                return (K) cursor.key();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V value() {
+                if (!positioned) throw new IllegalStateException("Cursor is not positioned on an entry");
+                return (V) cursor.value();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                ChampNode.Cursor cursor = new ChampNode.Cursor(root);
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return cursor.hasNext();
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Entry<K, V> next() {
+                        if (!cursor.advance()) throw new NoSuchElementException();
+                        return new SimpleImmutableEntry<>((K) cursor.key(), (V) cursor.value());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof InmutableMap2<?, ?> other) 
+            return size == other.size && ChampNode.equal(root, other.root);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            int[] sum = { 0 };
+            root.forEach((key, value) -> sum[0] += Objects.hashCode(key) ^ Objects.hashCode(value));
+            hash = h = sum[0];
+        }
+        return h;
+    }
+
+}
@@ -0,0 +1,256 @@
+package io.github.luchersol.collections;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class InmutableSet2<E> extends AbstractSet2<E> {
+
+    private static final Object PRESENT = new Object();
+
+    private static final InmutableSet2<?> EMPTY = new InmutableSet2<>(ChampNode.EMPTY, 0);
+
+    // Trie CHAMP: cada versión comparte con la anterior todo salvo el camino modificado
+    private final ChampNode root;
+    private final int size;
+    // Caché al estilo de String: un único campo, 0 significa "sin calcular"
+    private int hash;
+
+    public record Diff<E>(Set<E> added, Set<E> removed) {
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+    }
+
+    // ----------------- Constructors -----------------
+
+    private InmutableSet2(ChampNode root, int size) {
+        this.root = root;
+        this.size = size;
+        this.inner = new View();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> InmutableSet2<E> empty() {
+        return (InmutableSet2<E>) EMPTY;
+    }
+
+    public static <E> InmutableSet2<E> of(Collection<E> c) {
+        if (c instanceof InmutableSet2<E> set) return set;
+        return InmutableSet2.<E>empty().withAll(c);
+    }
+
+    @SafeVarargs
+    public static <E> InmutableSet2<E> of(E... arg0) {
+        InmutableSet2<E> result = empty();
+        for (E e : arg0) result = result.with(e);
+        return result;
+    }
+
+    public InmutableSet2<E> copy() {
+        return this;
+    }
+
+    public Set2<E> toSet2() {
+        return new Set2<>(this);
+    }
+
+    // ----------------- Persistent updates -----------------
+
+    public InmutableSet2<E> with(E element) {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode updated = root.put(element, PRESENT, ChampNode.hash(element), 0, change);
+        return change.modified ? new InmutableSet2<>(updated, size + change.sizeDelta) : this;
+    }
+
+    public InmutableSet2<E> without(Object element) {
+        ChampNode.Change change = new ChampNode.Change();
+        ChampNode updated = root.remove(element, ChampNode.hash(element), 0, change);
+        return change.modified ? new InmutableSet2<>(updated, size + change.sizeDelta) : this;
+    }
+
+    public InmutableSet2<E> withAll(Collection<? extends E> c) {
+        ChampNode updated = root;
+        int newSize = size;
+        ChampNode.Change change = new ChampNode.Change();
+        for (E e : c) {
+            change.sizeDelta = 0;
+            updated = updated.put(e, PRESENT, ChampNode.hash(e), 0, change);
+            newSize += change.sizeDelta;
+        }
+        return change.modified ? new InmutableSet2<>(updated, newSize) : this;
+    }
+
+    public InmutableSet2<E> withoutAll(Collection<?> c) {
+        ChampNode updated = root;
+        int newSize = size;
+        ChampNode.Change change = new ChampNode.Change();
+        for (Object e : c) {
+            change.sizeDelta = 0;
+            updated = updated.remove(e, ChampNode.hash(e), 0, change);
+            newSize += change.sizeDelta;
+        }
+        return change.modified ? new InmutableSet2<>(updated, newSize) : this;
+    }
+
+    // ----------------- Versions -----------------
+
+    // Diferencias con otra versión: los sub árboles compartidos no se recorren
+    @SuppressWarnings("unchecked")
+    public Diff<E> diff(InmutableSet2<E> other) {
+        Set<E> added = new HashSet<>(), removed = new HashSet<>();
+        ChampNode.diff(root, other.root, 0, new ChampNode.DiffSink() {
+            @Override
+            public void added(Object key, Object value) {
+                added.add((E) key);
+            }
+
+            @Override
+            public void removed(Object key, Object value) {
+                removed.add((E) key);
+            }
+
+            @Override
+            public void changed(Object key, Object oldValue, Object newValue) {
+            }
+        });
+        return new Diff<>(Collections.unmodifiableSet(added), Collections.unmodifiableSet(removed));
+    }
+
+    // ----------------- Filters and mappers -----------------
+
+    public InmutableSet2<E> filter(Predicate<? super E> predicate) {
+        InmutableSet2<E> result = this;
+        for (E e : this) 
+            if (!predicate.test(e)) result = result.without(e);
+        return result;
+    }
+
+    public <R> InmutableSet2<R> map(Function<? super E, ? extends R> mapper) {
+        InmutableSet2<R> result = empty();
+        for (E e : this) 
+            result = result.with(mapper.apply(e));
+        return result;
+    }
+
+    public InmutableSet2<E> distinct() {
+        return this;
+    }
+
+    // ----------------- Combination and extraction -----------------
+
+    // Entre dos InmutableSet2 se opera nodo a nodo: los sub árboles compartidos no se recorren y, si el
+    // resultado coincide con uno de los dos conjuntos, se devuelve ese conjunto
+    public InmutableSet2<E> union(Collection<? extends E> other) {
+        if (other instanceof InmutableSet2<? extends E> set) {
+            ChampNode.Change change = new ChampNode.Change();
+            return result(ChampNode.union(root, set.root, 0, change), change, set);
+        }
+        return withAll(other);
+    }
+
+    public InmutableSet2<E> intersection(Collection<? extends E> other) {
+        if (other instanceof InmutableSet2<? extends E> set) {
+            ChampNode.Change change = new ChampNode.Change();
+            return result(ChampNode.intersection(root, set.root, 0, change), change, set);
+        }
+        Collection<?> keep = other instanceof Set<?> ? other : new HashSet<>(other);
+        return filter(keep::contains);
+    }
+
+    public InmutableSet2<E> difference(Collection<? extends E> other) {
+        if (other instanceof InmutableSet2<? extends E> set) {
+            ChampNode.Change change = new ChampNode.Change();
+            return result(ChampNode.difference(root, set.root, 0, change), change, set);
+        }
+        if (other instanceof Set<?> set && set.size() > size) return filter(e -> !set.contains(e));
+        return withoutAll(other);
+    }
+
+    // Conserva la instancia (y su hash ya calculado) cuando el trie resultante es el de uno de los operandos
+    @SuppressWarnings("unchecked")
+    private InmutableSet2<E> result(ChampNode merged, ChampNode.Change change, InmutableSet2<? extends E> other) {
+        if (merged == root) return this;
+        if (merged == other.root) return (InmutableSet2<E>) other;
+        if (size + change.sizeDelta == 0) return empty();
+        return new InmutableSet2<>(merged, size + change.sizeDelta);
+    }
+
+    // ----------------- Default Set Methods -----------------
+
+    @Override
+    public boolean contains(Object o) {
+        return root.find(o, ChampNode.hash(o), 0) != ChampNode.NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof InmutableSet2<?> other) 
+            return size == other.size && ChampNode.equal(root, other.root);
+        return o instanceof Set<?> set && set.size() == size && containsAll(set);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            int[] sum = { 0 };
+            root.forEach((key, value) -> sum[0] += Objects.hashCode(key));
+            hash = h = sum[0];
+        }
+        return h;
+    }
+
+    // Vista de solo lectura que usan los métodos heredados de AbstractSet2
+    private final class View extends AbstractSet<E> {
+
+        @Override
+        public Iterator<E> iterator() {
+            ChampNode.Cursor cursor = new ChampNode.Cursor(root);
+
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return cursor.hasNext();
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    if (!cursor.advance()) throw new NoSuchElementException();
+                    return (E) cursor.key();
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return InmutableSet2.this.contains(o);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int hashCode() {
+            return InmutableSet2.this.hashCode();
+        }
+    }
+}
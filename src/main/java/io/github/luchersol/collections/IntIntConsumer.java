@@ -0,0 +1,12 @@
+package io.github.luchersol.collections;
+
+/**
+ * Represents an operation that accepts an {@code int} key and an {@code int} value, used to
+ * iterate {@link IntMap2} without boxing or allocating an entry.
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    void accept(int key, int value);
+
+}
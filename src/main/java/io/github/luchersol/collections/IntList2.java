@@ -0,0 +1,463 @@
+package io.github.luchersol.collections;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+public class IntList2 {
+
+    private static final int[] EMPTY_DATA = {};
+
+    protected int[] data;
+    protected int size;
+
+    // ----------------- Constructors -----------------
+
+    public IntList2() {
+        this.data = EMPTY_DATA;
+    }
+
+    public IntList2(int initialCapacity) {
+        PrimitiveLists.checkCapacity(initialCapacity);
+        this.data = initialCapacity == 0 ? EMPTY_DATA : new int[initialCapacity];
+    }
+
+    public IntList2(int[] values) {
+        this.data = values.length == 0 ? EMPTY_DATA : values.clone();
+        this.size = values.length;
+    }
+
+    public IntList2(IntList2 other) {
+        this.data = Arrays.copyOf(other.data, other.size);
+        this.size = other.size;
+    }
+
+    private IntList2(int[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    // Adopta un array recién construido; si está muy por encima de size se recorta
+    private static IntList2 trimmed(int[] data, int size) {
+        return new IntList2(PrimitiveLists.isOversized(size, data.length) ? Arrays.copyOf(data, size) : data, size);
+    }
+
+    public static IntList2 empty() {
+        return new IntList2();
+    }
+
+    public static IntList2 of(int... values) {
+        return new IntList2(values);
+    }
+
+    public static IntList2 of(List<Integer> values) {
+        int[] data = new int[values.size()];
+        int i = 0;
+        for (Integer value : values) data[i++] = value;
+        return new IntList2(data, data.length);
+    }
+
+    public IntList2 copy() {
+        return new IntList2(this);
+    }
+
+    // ----------------- Inner -----------------
+
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    public List2<Integer> boxed() {
+        List2<Integer> result = new List2<>();
+        for (int i = 0; i < size; i++) result.add(data[i]);
+        return result;
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(data, 0, size);
+    }
+
+    // ----------------- Basic operations -----------------
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return data[index];
+    }
+
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int previous = data[index];
+        data[index] = value;
+        return previous;
+    }
+
+    public void add(int value) {
+        if (size == data.length) grow(size + 1);
+        data[size++] = value;
+    }
+
+    public void add(int index, int value) {
+        Objects.checkIndex(index, size + 1);
+        if (size == data.length) grow(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size++;
+    }
+
+    public void addAll(int... values) {
+        addAll(values, values.length);
+    }
+
+    public void addAll(IntList2 other) {
+        addAll(other.data, other.size);
+    }
+
+    private void addAll(int[] values, int length) {
+        if (size + length > data.length) grow(size + length);
+        System.arraycopy(values, 0, data, size, length);
+        size += length;
+    }
+
+    public int removeAt(int index) {
+        Objects.checkIndex(index, size);
+        int previous = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) grow(minCapacity);
+    }
+
+    public void trimToSize() {
+        if (size < data.length) data = size == 0 ? EMPTY_DATA : Arrays.copyOf(data, size);
+    }
+
+    private void grow(int minCapacity) {
+        data = Arrays.copyOf(data, PrimitiveLists.newCapacity(data.length, minCapacity));
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) action.accept(data[i]);
+    }
+
+    // ----------------- Gets with default or optional values -----------------
+
+    public int getOrElse(int index, int defaultValue) {
+        return index < 0 || index >= size ? defaultValue : data[index];
+    }
+
+    public int getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[0];
+    }
+
+    public int getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[size - 1];
+    }
+
+    public OptionalInt findFirst() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(data[0]);
+    }
+
+    public OptionalInt findLast() {
+        return size == 0 ? OptionalInt.empty() : OptionalInt.of(data[size - 1]);
+    }
+
+    // ----------------- Checkers -----------------
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++)
+            if (data[i] == value) return i;
+        return -1;
+    }
+
+    public int lastIndexOf(int value) {
+        for (int i = size - 1; i >= 0; i--)
+            if (data[i] == value) return i;
+        return -1;
+    }
+
+    public boolean containsAny(int... values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < size; i++)
+            if (Arrays.binarySearch(sorted, data[i]) >= 0) return true;
+        return false;
+    }
+
+    public boolean isSorted() {
+        for (int i = 0; i < size - 1; i++)
+            if (data[i] > data[i + 1]) return false;
+        return true;
+    }
+
+    // ----------------- Count and statistics -----------------
+
+    public long count(IntPredicate predicate) {
+        long count = 0L;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) count++;
+        return count;
+    }
+
+    public OptionalInt findMax() {
+        if (size == 0) return OptionalInt.empty();
+        int max = data[0];
+        for (int i = 1; i < size; i++)
+            if (data[i] > max) max = data[i];
+        return OptionalInt.of(max);
+    }
+
+    public int max() {
+        return findMax().getAsInt();
+    }
+
+    public int maxOrElse(int defaultValue) {
+        return findMax().orElse(defaultValue);
+    }
+
+    public OptionalInt findMin() {
+        if (size == 0) return OptionalInt.empty();
+        int min = data[0];
+        for (int i = 1; i < size; i++)
+            if (data[i] < min) min = data[i];
+        return OptionalInt.of(min);
+    }
+
+    public int min() {
+        return findMin().getAsInt();
+    }
+
+    public int minOrElse(int defaultValue) {
+        return findMin().orElse(defaultValue);
+    }
+
+    // ----------------- Getters -----------------
+
+    public IntList2 choose(int... indexes) {
+        PrimitiveLists.checkIndexes(indexes, size);
+        int[] result = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) result[i] = data[indexes[i]];
+        return new IntList2(result, result.length);
+    }
+
+    // ----------------- Filters and mappers -----------------
+
+    public IntList2 toFilter(IntPredicate predicate) {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) result[n++] = data[i];
+        return trimmed(result, n);
+    }
+
+    public void filter(IntPredicate predicate) {
+        int n = 0;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) data[n++] = data[i];
+        size = n;
+    }
+
+    public IntList2 toMapped(IntUnaryOperator mapper) {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) result[i] = mapper.applyAsInt(data[i]);
+        return new IntList2(result, size);
+    }
+
+    public void map(IntUnaryOperator mapper) {
+        for (int i = 0; i < size; i++) data[i] = mapper.applyAsInt(data[i]);
+    }
+
+    public <R> List2<R> mapToObj(IntFunction<? extends R> mapper) {
+        List2<R> result = new List2<>();
+        for (int i = 0; i < size; i++) result.add(mapper.apply(data[i]));
+        return result;
+    }
+
+    public IntList2 toDistinct() {
+        IntList2 result = copy();
+        result.distinct();
+        if (PrimitiveLists.isOversized(result.size, result.data.length)) result.trimToSize();
+        return result;
+    }
+
+    // Mantiene la primera aparición de cada valor: O(n log n) y sin boxing
+    public void distinct() {
+        int[] unique = sortedUnique(data, size);
+        boolean[] seen = new boolean[unique.length];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            int index = Arrays.binarySearch(unique, data[i]);
+            if (!seen[index]) {
+                seen[index] = true;
+                data[n++] = data[i];
+            }
+        }
+        size = n;
+    }
+
+    public IntList2 toSorted() {
+        IntList2 result = copy();
+        result.sort();
+        return result;
+    }
+
+    public void sort() {
+        Arrays.sort(data, 0, size);
+    }
+
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) swap(i, j);
+    }
+
+    public void shuffle() {
+        shuffle(new Random());
+    }
+
+    public void shuffle(Random random) {
+        for (int i = size - 1; i > 0; i--) swap(i, random.nextInt(i + 1));
+    }
+
+    public void rotateRight(int distance) {
+        if (size == 0) return;
+        distance = Math.floorMod(distance, size);
+        if (distance == 0) return;
+        int[] rotated = new int[size];
+        System.arraycopy(data, size - distance, rotated, 0, distance);
+        System.arraycopy(data, 0, rotated, distance, size - distance);
+        System.arraycopy(rotated, 0, data, 0, size);
+    }
+
+    public void rotateLeft(int distance) {
+        rotateRight(-distance);
+    }
+
+    public void swap(int i, int j) {
+        Objects.checkIndex(i, size);
+        Objects.checkIndex(j, size);
+        int temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+
+    // ----------------- Combination and extraction -----------------
+
+    public void concat(IntList2... others) {
+        for (IntList2 other : others) addAll(other);
+    }
+
+    public IntList2 difference(IntList2 other) {
+        int[] sorted = sortedUnique(other.data, other.size);
+        return toFilter(value -> Arrays.binarySearch(sorted, value) < 0);
+    }
+
+    public IntList2 union(IntList2 other) {
+        IntList2 result = copy();
+        result.ensureCapacity(size + other.size);
+        int[] seen = sortedUnique(data, size);
+        int[] candidates = new int[other.size];
+        int n = 0;
+        for (int i = 0; i < other.size; i++)
+            if (Arrays.binarySearch(seen, other.data[i]) < 0) candidates[n++] = other.data[i];
+        IntList2 added = new IntList2(candidates, n);
+        added.distinct();
+        result.addAll(added);
+        return result;
+    }
+
+    public IntList2 intersection(IntList2 other) {
+        int[] sorted = sortedUnique(other.data, other.size);
+        return toFilter(value -> Arrays.binarySearch(sorted, value) >= 0);
+    }
+
+    public IntList2 subListSafe(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(size, to);
+        if (from >= to) return empty();
+        return new IntList2(Arrays.copyOfRange(data, from, to), to - from);
+    }
+
+    public List2<IntList2> split(int chunkSize) {
+        PrimitiveLists.checkChunkSize(chunkSize);
+        List2<IntList2> result = new List2<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int to = Math.min(size, from + chunkSize);
+            result.add(new IntList2(Arrays.copyOfRange(data, from, to), to - from));
+        }
+        return result;
+    }
+
+    private static int[] sortedUnique(int[] values, int length) {
+        int[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < length; i++)
+            if (n == 0 || sorted[n - 1] != sorted[i]) sorted[n++] = sorted[i];
+        return n == length ? sorted : Arrays.copyOf(sorted, n);
+    }
+
+    // ----------------- toString -----------------
+
+    public String toString(String sep, String prefix, String suffix) {
+        StringBuilder result = new StringBuilder(prefix);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) result.append(sep);
+            result.append(data[i]);
+        }
+        return result.append(suffix).toString();
+    }
+
+    public String toString(String prefix, String suffix) {
+        return toString("\n", prefix, suffix);
+    }
+
+    @Override
+    public String toString() {
+        return toString("", "");
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntList2 other) || other.size != size) return false;
+        for (int i = 0; i < size; i++)
+            if (data[i] != other.data[i]) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) hash = 31 * hash + Integer.hashCode(data[i]);
+        return hash;
+    }
+}
@@ -0,0 +1,324 @@
+package io.github.luchersol.collections;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import io.github.luchersol.Checker;
+
+public class IntMap2 {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    // Direccionamiento abierto con sondeo lineal: la clave 0 marca hueco libre y se guarda aparte
+    private int[] keys;
+    private int[] values;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private final float loadFactor;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    // ----------------- Constructors -----------------
+
+    public IntMap2() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntMap2(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntMap2(int expectedSize, float loadFactor) {
+        Checker.check(expectedSize >= 0, "expectedSize must be >= 0");
+        Checker.check(loadFactor > 0f && loadFactor < 1f, "loadFactor must be in (0, 1)");
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize, loadFactor));
+    }
+
+    public IntMap2(IntMap2 other) {
+        this.loadFactor = other.loadFactor;
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.hasZeroKey = other.hasZeroKey;
+        this.zeroValue = other.zeroValue;
+        this.size = other.size;
+        this.mask = other.mask;
+        this.threshold = other.threshold;
+    }
+
+    public static IntMap2 empty() {
+        return new IntMap2();
+    }
+
+    public static IntMap2 of(Map<Integer, Integer> map) {
+        IntMap2 result = new IntMap2(map.size());
+        map.forEach((key, value) -> result.put(key, value));
+        return result;
+    }
+
+    public static IntMap2 of(int key0, int val0) {
+        IntMap2 result = empty();
+        result.put(key0, val0);
+        return result;
+    }
+
+    public static IntMap2 of(int key0, int val0, int key1, int val1) {
+        IntMap2 result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        return result;
+    }
+
+    public static IntMap2 of(int key0, int val0, int key1, int val1, int key2, int val2) {
+        IntMap2 result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        result.put(key2, val2);
+        return result;
+    }
+
+    public IntMap2 copy() {
+        return new IntMap2(this);
+    }
+
+    public Map2<Integer, Integer> toMap2() {
+        Map2<Integer, Integer> result = Map2.empty();
+        forEach((key, value) -> result.put(key, value));
+        return result;
+    }
+
+    // ----------------- Basic Operators -----------------
+
+    public boolean put(int key, int value) {
+        if (key == 0) {
+            zeroValue = value;
+            if (hasZeroKey) return false;
+            hasZeroKey = true;
+            size++;
+            return true;
+        }
+        int i = index(key);
+        int current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) {
+                values[i] = value;
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) rehash(keys.length << 1);
+        return true;
+    }
+
+    // Suma delta al valor de la clave (0 si no existe) y devuelve el resultado
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int i = index(key);
+        int current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) return values[i] += delta;
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = delta;
+        if (++size > threshold) rehash(keys.length << 1);
+        return delta;
+    }
+
+    public int get(int key) {
+        int slot = slotOf(key);
+        if (slot == -1) throw new NoSuchElementException("Key not found: " + key);
+        return slot == keys.length ? zeroValue : values[slot];
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        int slot = slotOf(key);
+        if (slot == -1) return defaultValue;
+        return slot == keys.length ? zeroValue : values[slot];
+    }
+
+    public OptionalInt find(int key) {
+        int slot = slotOf(key);
+        if (slot == -1) return OptionalInt.empty();
+        return OptionalInt.of(slot == keys.length ? zeroValue : values[slot]);
+    }
+
+    public boolean containsKey(int key) {
+        return slotOf(key) != -1;
+    }
+
+    public boolean containsValue(int value) {
+        if (hasZeroKey && zeroValue == value) return true;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0 && values[i] == value) return true;
+        return false;
+    }
+
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return false;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int i = index(key);
+        int current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) {
+                shiftBack(i);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ----------------- Iteration -----------------
+
+    public void forEach(IntIntConsumer action) {
+        if (hasZeroKey) action.accept(0, zeroValue);
+        int[] keys = this.keys;
+        int[] values = this.values;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) action.accept(keys[i], values[i]);
+    }
+
+    public IntList2 keys() {
+        IntList2 result = new IntList2(size);
+        forEach((key, value) -> result.add(key));
+        return result;
+    }
+
+    public IntList2 values() {
+        IntList2 result = new IntList2(size);
+        forEach((key, value) -> result.add(value));
+        return result;
+    }
+
+    // ----------------- Hashing -----------------
+
+    // Posición de la clave, keys.length para la clave 0 o -1 si no existe
+    private int slotOf(int key) {
+        if (key == 0) return hasZeroKey ? keys.length : -1;
+        int i = index(key);
+        int current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int index(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        return (int) Math.max(4, Long.highestOneBit(Math.min(1 << 30, needed - 1)) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if (key == 0) continue;
+            int i = index(key);
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = oldValues[j];
+        }
+    }
+
+    // Borrado sin lápidas: se desplazan hacia atrás las claves del mismo grupo
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            int key = keys[i];
+            if (key == 0) break;
+            int home = index(key);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    // ----------------- toString -----------------
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (result.length() > 1) result.append(", ");
+            result.append(key).append('=').append(value);
+        });
+        return result.append('}').toString();
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntMap2 other) || other.size != size) return false;
+        if (hasZeroKey && (!other.hasZeroKey || zeroValue != other.zeroValue)) return false;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == 0) continue;
+            int slot = other.slotOf(keys[i]);
+            if (slot == -1 || other.values[slot] != values[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = hasZeroKey ? Integer.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) hash += Integer.hashCode(keys[i]) ^ Integer.hashCode(values[i]);
+        return hash;
+    }
+
+}
@@ -0,0 +1,187 @@
+package io.github.luchersol.collections;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.github.luchersol.Checker;
+
+/**
+ * LazyList2 is a lazy view over a list that records filter, map, distinct, limit and skip
+ * operations without copying. The recorded operations are fused into a single pass over the
+ * source when the view is iterated or materialized, and the pass stops as soon as a limit is reached.
+ *
+ * @param <E> the type of the elements produced by the view
+ */
+public class LazyList2<E> implements Iterable<E> {
+
+    // Cada operación envuelve al sink siguiente; devuelve false cuando no hacen falta más elementos
+    @FunctionalInterface
+    private interface Sink {
+        boolean accept(Object element);
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        Sink wrap(Sink downstream);
+    }
+
+    // Operaciones encadenadas de forma persistente: cada vista apunta a la última y comparte las anteriores
+    private record Link(Op op, Link previous) { }
+
+    private final List<?> source;
+    private final Link last;
+
+    LazyList2(List<? extends E> source) {
+        this(source, null);
+    }
+
+    private LazyList2(List<?> source, Link last) {
+        this.source = source;
+        this.last = last;
+    }
+
+    // ----------------- Operations -----------------
+
+    public LazyList2<E> filter(Predicate<? super E> predicate) {
+        return then(down -> e -> !test(predicate, e) || down.accept(e));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> LazyList2<R> map(Function<? super E, ? extends R> mapper) {
+        return (LazyList2<R>) then(down -> e -> down.accept(((Function<Object, ? extends R>) mapper).apply(e)));
+    }
+
+    public LazyList2<E> distinct() {
+        return then(down -> {
+            Set<Object> seen = new HashSet<>();
+            return e -> !seen.add(e) || down.accept(e);
+        });
+    }
+
+    public LazyList2<E> limit(long maxSize) {
+        Checker.check(maxSize >= 0, "maxSize must be >= 0");
+        return then(down -> {
+            long[] count = { 0L };
+            return e -> {
+                if (count[0] >= maxSize) return false;
+                count[0]++;
+                return down.accept(e) && count[0] < maxSize;
+            };
+        });
+    }
+
+    public LazyList2<E> skip(long n) {
+        Checker.check(n >= 0, "n must be >= 0");
+        return then(down -> {
+            long[] skipped = { 0L };
+            return e -> {
+                if (skipped[0] < n) {
+                    skipped[0]++;
+                    return true;
+                }
+                return down.accept(e);
+            };
+        });
+    }
+
+    private LazyList2<E> then(Op op) {
+        return new LazyList2<>(source, new Link(op, last));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> boolean test(Predicate<? super E> predicate, Object e) {
+        return predicate.test((E) e);
+    }
+
+    // ----------------- Terminal operations -----------------
+
+    private Sink fuse(Sink terminal) {
+        Sink sink = terminal;
+        for (Link link = last; link != null; link = link.previous) sink = link.op.wrap(sink);
+        return sink;
+    }
+
+    private void run(Sink terminal) {
+        Sink sink = fuse(terminal);
+        for (Object e : source)
+            if (!sink.accept(e)) break;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List2<E> toList2() {
+        List2<E> result = List2.empty();
+        run(e -> result.add((E) e));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set2<E> toSet2() {
+        Set2<E> result = Set2.empty();
+        run(e -> result.add((E) e));
+        return result;
+    }
+
+    public long count() {
+        long[] count = { 0L };
+        run(e -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<E> findFirst() {
+        Object[] first = { null };
+        boolean[] found = { false };
+        run(e -> {
+            first[0] = e;
+            found[0] = true;
+            return false;
+        });
+        return found[0] ? Optional.ofNullable((E) first[0]) : Optional.empty();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Iterator<?> it = source.iterator();
+            private final Sink sink = fuse(e -> {
+                next = e;
+                ready = true;
+                return true;
+            });
+            private Object next;
+            private boolean ready;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && !done && it.hasNext())
+                    if (!sink.accept(it.next())) done = true;
+                return ready;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                ready = false;
+                E result = (E) next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList2().toString();
+    }
+}
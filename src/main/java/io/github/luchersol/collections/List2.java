@@ -6,11 +6,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import io.github.luchersol.Checker;
@@ -23,6 +26,10 @@ public class List2<E> extends AbstractList2<E> {
         this.inner = new ArrayList<>();
     }
 
+    public List2(int initialCapacity) {
+        this.inner = new ArrayList<>(initialCapacity);
+    }
+
     public List2(Collection<? extends E> c) {
         this.inner = new ArrayList<>(c);
     }
@@ -36,6 +43,10 @@ public class List2<E> extends AbstractList2<E> {
         return new List2<E>();
     }
 
+    public static <E> List2<E> withCapacity(int initialCapacity) {
+        return new List2<E>(initialCapacity);
+    }
+
     public static <E> List2<E> of(Collection<E> c) {
         return new List2<>(c);
     } 
@@ -49,10 +60,17 @@ public class List2<E> extends AbstractList2<E> {
         return of(this);
     }
 
+    // Adopta una lista recién construida sin copiarla
+    private static <E> List2<E> wrap(List<E> list) {
+        List2<E> result = withCapacity(0);
+        result.inner = list;
+        return result;
+    }
+
     // ----------------- Getters -----------------
     
     public List2<E> choose(List<Integer> indexes) {
-        List2<E> result = empty();
+        List2<E> result = withCapacity(indexes.size());
         boolean validIndexes = indexes.stream().allMatch(i -> i >= 0 && i < size());
         Checker.check(validIndexes, "Todos los indices deben existir entre 0 y la longitud de la lista");
         for(int index: indexes) result.add(get(index));
@@ -73,7 +91,7 @@ public class List2<E> extends AbstractList2<E> {
     }
 
     public <R> List2<R> toMapped(Function<? super E, ? extends R> mapper) {
-        List2<R> result = empty();
+        List2<R> result = withCapacity(size());
         for (E e : this.inner) 
             result.add(mapper.apply(e));
         return result;
@@ -84,21 +102,70 @@ public class List2<E> extends AbstractList2<E> {
             set(i, mapper.apply(get(i)));
     }
 
+    // Versiones paralelas de toFilter/toMapped; por debajo de ParallelOps.SEQUENTIAL_THRESHOLD se ejecutan en secuencia
+    public List2<E> parallelFilter(Predicate<? super E> predicate) {
+        return parallelFilter(predicate, ForkJoinPool.commonPool());
+    }
+
+    public List2<E> parallelFilter(Predicate<? super E> predicate, ForkJoinPool pool) {
+        return wrap(ParallelOps.filter(inner, predicate, pool, ArrayList::new));
+    }
+
+    public <R> List2<R> parallelMap(Function<? super E, ? extends R> mapper) {
+        return parallelMap(mapper, ForkJoinPool.commonPool());
+    }
+
+    public <R> List2<R> parallelMap(Function<? super E, ? extends R> mapper, ForkJoinPool pool) {
+        return wrap(ParallelOps.map(inner, mapper, pool, ArrayList::new));
+    }
+
     public List2<E> toDistinct() {
-        Set<E> seen = new HashSet<>();
-        List2<E> result = new List2<>();
+        Set<E> seen = HashSet.newHashSet(size());
+        List2<E> result = withCapacity(size());
         for (E e : this.inner) 
             if (seen.add(e)) result.add(e);
         return result;
     }
 
+    // Una sola pasada de compactación (removeIf) en vez de remove(i) por cada duplicado
     public void distinct() {
-        Set<E> seen = new HashSet<>();
-        for (int i = 0; i < size(); ) {
-            E e = get(i);
-            if (!seen.add(e)) remove(i);
-            else i++;
-        }
+        Set<E> seen = HashSet.newHashSet(size());
+        inner.removeIf(e -> !seen.add(e));
+    }
+
+    public List2<E> toDistinctBy(Function<? super E, ?> keyExtractor) {
+        List2<E> result = copy();
+        result.distinctBy(keyExtractor);
+        return result;
+    }
+
+    public void distinctBy(Function<? super E, ?> keyExtractor) {
+        Set<Object> seen = HashSet.newHashSet(size());
+        inner.removeIf(e -> !seen.add(keyExtractor.apply(e)));
+    }
+
+    public List2<E> toDistinctByLong(ToLongFunction<? super E> keyExtractor) {
+        List2<E> result = copy();
+        result.distinctByLong(keyExtractor);
+        return result;
+    }
+
+    // Claves primitivas: sin boxing ni HashSet
+    public void distinctByLong(ToLongFunction<? super E> keyExtractor) {
+        LongHashSet seen = new LongHashSet(size());
+        inner.removeIf(e -> !seen.add(keyExtractor.applyAsLong(e)));
+    }
+
+    public List2<E> toDistinctIdentity() {
+        List2<E> result = copy();
+        result.distinctIdentity();
+        return result;
+    }
+
+    // Duplicados por referencia (==), sin llamar a equals/hashCode
+    public void distinctIdentity() {
+        Set<E> seen = Collections.newSetFromMap(new IdentityHashMap<>(size()));
+        inner.removeIf(e -> !seen.add(e));
     }
 
     public List2<E> toSorted(Comparator<? super E> comparator) {
@@ -145,24 +212,46 @@ public class List2<E> extends AbstractList2<E> {
 
     public List2<E> difference(Collection<? extends E> other){
 		List2<E> result = copy();
-        result.removeAll(other);
+        result.removeAll(lookup(other));
 		return result;
 	}
+
+    // Ambas listas ordenadas según cmp: recorrido de mezcla en O(n+m)
+    public List2<E> difference(List<? extends E> other, Comparator<? super E> cmp){
+        List2<E> result = empty();
+        mergeFilter(this, other, cmp, false, result);
+        return result;
+    }
 	
 	public List2<E> union(Collection<? extends E> other){
-        Set<E> seen = new HashSet<>(copy());
-        List2<E> result = copy();
+        Set<E> seen = new HashSet<>(inner);
+        List2<E> result = withCapacity(size() + other.size());
+        result.addAll(inner);
         for (E e : other) 
             if (seen.add(e)) result.add(e);
         return result;
 	}
+
+    // Ambas listas ordenadas según cmp: el resultado sigue ordenado
+    public List2<E> union(List<? extends E> other, Comparator<? super E> cmp){
+        List2<E> result = withCapacity(size() + other.size());
+        mergeUnion(this, other, cmp, result);
+        return result;
+    }
 	
 	public List2<E> intersection(Collection<? extends E> other){
 		List2<E> result = copy();
-		result.retainAll(other);
+		result.retainAll(lookup(other));
 		return result;
 	}
 
+    // Ambas listas ordenadas según cmp: recorrido de mezcla en O(n+m)
+    public List2<E> intersection(List<? extends E> other, Comparator<? super E> cmp){
+        List2<E> result = empty();
+        mergeFilter(this, other, cmp, true, result);
+        return result;
+    }
+
     public List2<E> subListSafe(int from, int to) {
         int n = size();
 
@@ -0,0 +1,327 @@
+package io.github.luchersol.collections;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import io.github.luchersol.Checker;
+
+public class Long2ObjectMap2<V> {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final Object MISSING = new Object();
+
+    // Direccionamiento abierto con sondeo lineal: la clave 0 marca hueco libre y se guarda aparte
+    private long[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+    private final float loadFactor;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    // ----------------- Constructors -----------------
+
+    public Long2ObjectMap2() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    public Long2ObjectMap2(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    public Long2ObjectMap2(int expectedSize, float loadFactor) {
+        Checker.check(expectedSize >= 0, "expectedSize must be >= 0");
+        Checker.check(loadFactor > 0f && loadFactor < 1f, "loadFactor must be in (0, 1)");
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize, loadFactor));
+    }
+
+    public Long2ObjectMap2(Long2ObjectMap2<? extends V> other) {
+        this.loadFactor = other.loadFactor;
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.hasZeroKey = other.hasZeroKey;
+        this.zeroValue = other.zeroValue;
+        this.size = other.size;
+        this.mask = other.mask;
+        this.threshold = other.threshold;
+    }
+
+    public static <V> Long2ObjectMap2<V> empty() {
+        return new Long2ObjectMap2<>();
+    }
+
+    public static <V> Long2ObjectMap2<V> of(Map<Long, ? extends V> map) {
+        Long2ObjectMap2<V> result = new Long2ObjectMap2<>(map.size());
+        map.forEach((key, value) -> result.put(key, value));
+        return result;
+    }
+
+    public static <V> Long2ObjectMap2<V> of(long key0, V val0) {
+        Long2ObjectMap2<V> result = empty();
+        result.put(key0, val0);
+        return result;
+    }
+
+    public static <V> Long2ObjectMap2<V> of(long key0, V val0, long key1, V val1) {
+        Long2ObjectMap2<V> result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        return result;
+    }
+
+    public static <V> Long2ObjectMap2<V> of(long key0, V val0, long key1, V val1, long key2, V val2) {
+        Long2ObjectMap2<V> result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        result.put(key2, val2);
+        return result;
+    }
+
+    public Long2ObjectMap2<V> copy() {
+        return new Long2ObjectMap2<>(this);
+    }
+
+    public Map2<Long, V> toMap2() {
+        Map2<Long, V> result = Map2.empty();
+        forEach((key, value) -> result.put(key, value));
+        return result;
+    }
+
+    // ----------------- Basic Operators -----------------
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0L) {
+            V previous = (V) zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0L) {
+            if (current == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) rehash(keys.length << 1);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0L) return (V) zeroValue;
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0L) {
+            if (current == key) return (V) values[i];
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0L) return hasZeroKey ? (V) zeroValue : defaultValue;
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0L) {
+            if (current == key) return (V) values[i];
+            i = (i + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0L) return hasZeroKey;
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0L) {
+            if (current == key) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean containsValue(Object value) {
+        if (hasZeroKey && Objects.equals(zeroValue, value)) return true;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0L && Objects.equals(values[i], value)) return true;
+        return false;
+    }
+
+    public V computeIfAbsent(long key, LongFunction<? extends V> mapper) {
+        V value = get(key);
+        if (value == null) {
+            value = mapper.apply(key);
+            if (value != null) put(key, value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0L) {
+            V previous = (V) zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0L) {
+            if (current == key) {
+                V previous = (V) values[i];
+                shiftBack(i);
+                size--;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ----------------- Iteration -----------------
+
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjConsumer<? super V> action) {
+        if (hasZeroKey) action.accept(0L, (V) zeroValue);
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0L) action.accept(keys[i], (V) values[i]);
+    }
+
+    public LongList2 keys() {
+        LongList2 result = new LongList2(size);
+        forEach((key, value) -> result.add(key));
+        return result;
+    }
+
+    public List2<V> values() {
+        List2<V> result = List2.empty();
+        forEach((key, value) -> result.add(value));
+        return result;
+    }
+
+    // ----------------- Hashing -----------------
+
+    private int index(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        return (int) Math.max(4, Long.highestOneBit(Math.min(1 << 30, needed - 1)) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key == 0L) continue;
+            int i = index(key);
+            while (keys[i] != 0L) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = oldValues[j];
+        }
+    }
+
+    // Borrado sin lápidas: se desplazan hacia atrás las claves del mismo grupo
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long key = keys[i];
+            if (key == 0L) break;
+            int home = index(key);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0L;
+        values[gap] = null;
+    }
+
+    // ----------------- toString -----------------
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (result.length() > 1) result.append(", ");
+            result.append(key).append('=').append(value);
+        });
+        return result.append('}').toString();
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Long2ObjectMap2<?> map) || map.size != size) return false;
+        Long2ObjectMap2<Object> other = (Long2ObjectMap2<Object>) map;
+        if (hasZeroKey && (!other.hasZeroKey || !Objects.equals(zeroValue, other.zeroValue))) return false;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == 0L) continue;
+            Object value = other.getOrDefault(keys[i], MISSING);
+            if (value == MISSING || !Objects.equals(values[i], value)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = hasZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0L) hash += Long.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+        return hash;
+    }
+
+}
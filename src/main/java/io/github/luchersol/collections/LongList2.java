@@ -0,0 +1,463 @@
+package io.github.luchersol.collections;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+public class LongList2 {
+
+    private static final long[] EMPTY_DATA = {};
+
+    protected long[] data;
+    protected int size;
+
+    // ----------------- Constructors -----------------
+
+    public LongList2() {
+        this.data = EMPTY_DATA;
+    }
+
+    public LongList2(int initialCapacity) {
+        PrimitiveLists.checkCapacity(initialCapacity);
+        this.data = initialCapacity == 0 ? EMPTY_DATA : new long[initialCapacity];
+    }
+
+    public LongList2(long[] values) {
+        this.data = values.length == 0 ? EMPTY_DATA : values.clone();
+        this.size = values.length;
+    }
+
+    public LongList2(LongList2 other) {
+        this.data = Arrays.copyOf(other.data, other.size);
+        this.size = other.size;
+    }
+
+    private LongList2(long[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    // Adopta un array recién construido; si está muy por encima de size se recorta
+    private static LongList2 trimmed(long[] data, int size) {
+        return new LongList2(PrimitiveLists.isOversized(size, data.length) ? Arrays.copyOf(data, size) : data, size);
+    }
+
+    public static LongList2 empty() {
+        return new LongList2();
+    }
+
+    public static LongList2 of(long... values) {
+        return new LongList2(values);
+    }
+
+    public static LongList2 of(List<Long> values) {
+        long[] data = new long[values.size()];
+        int i = 0;
+        for (Long value : values) data[i++] = value;
+        return new LongList2(data, data.length);
+    }
+
+    public LongList2 copy() {
+        return new LongList2(this);
+    }
+
+    // ----------------- Inner -----------------
+
+    public long[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    public List2<Long> boxed() {
+        List2<Long> result = new List2<>();
+        for (int i = 0; i < size; i++) result.add(data[i]);
+        return result;
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(data, 0, size);
+    }
+
+    // ----------------- Basic operations -----------------
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        return data[index];
+    }
+
+    public long set(int index, long value) {
+        Objects.checkIndex(index, size);
+        long previous = data[index];
+        data[index] = value;
+        return previous;
+    }
+
+    public void add(long value) {
+        if (size == data.length) grow(size + 1);
+        data[size++] = value;
+    }
+
+    public void add(int index, long value) {
+        Objects.checkIndex(index, size + 1);
+        if (size == data.length) grow(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size++;
+    }
+
+    public void addAll(long... values) {
+        addAll(values, values.length);
+    }
+
+    public void addAll(LongList2 other) {
+        addAll(other.data, other.size);
+    }
+
+    private void addAll(long[] values, int length) {
+        if (size + length > data.length) grow(size + length);
+        System.arraycopy(values, 0, data, size, length);
+        size += length;
+    }
+
+    public long removeAt(int index) {
+        Objects.checkIndex(index, size);
+        long previous = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) grow(minCapacity);
+    }
+
+    public void trimToSize() {
+        if (size < data.length) data = size == 0 ? EMPTY_DATA : Arrays.copyOf(data, size);
+    }
+
+    private void grow(int minCapacity) {
+        data = Arrays.copyOf(data, PrimitiveLists.newCapacity(data.length, minCapacity));
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) action.accept(data[i]);
+    }
+
+    // ----------------- Gets with default or optional values -----------------
+
+    public long getOrElse(int index, long defaultValue) {
+        return index < 0 || index >= size ? defaultValue : data[index];
+    }
+
+    public long getFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[0];
+    }
+
+    public long getLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return data[size - 1];
+    }
+
+    public OptionalLong findFirst() {
+        return size == 0 ? OptionalLong.empty() : OptionalLong.of(data[0]);
+    }
+
+    public OptionalLong findLast() {
+        return size == 0 ? OptionalLong.empty() : OptionalLong.of(data[size - 1]);
+    }
+
+    // ----------------- Checkers -----------------
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++)
+            if (data[i] == value) return i;
+        return -1;
+    }
+
+    public int lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--)
+            if (data[i] == value) return i;
+        return -1;
+    }
+
+    public boolean containsAny(long... values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < size; i++)
+            if (Arrays.binarySearch(sorted, data[i]) >= 0) return true;
+        return false;
+    }
+
+    public boolean isSorted() {
+        for (int i = 0; i < size - 1; i++)
+            if (data[i] > data[i + 1]) return false;
+        return true;
+    }
+
+    // ----------------- Count and statistics -----------------
+
+    public long count(LongPredicate predicate) {
+        long count = 0L;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) count++;
+        return count;
+    }
+
+    public OptionalLong findMax() {
+        if (size == 0) return OptionalLong.empty();
+        long max = data[0];
+        for (int i = 1; i < size; i++)
+            if (data[i] > max) max = data[i];
+        return OptionalLong.of(max);
+    }
+
+    public long max() {
+        return findMax().getAsLong();
+    }
+
+    public long maxOrElse(long defaultValue) {
+        return findMax().orElse(defaultValue);
+    }
+
+    public OptionalLong findMin() {
+        if (size == 0) return OptionalLong.empty();
+        long min = data[0];
+        for (int i = 1; i < size; i++)
+            if (data[i] < min) min = data[i];
+        return OptionalLong.of(min);
+    }
+
+    public long min() {
+        return findMin().getAsLong();
+    }
+
+    public long minOrElse(long defaultValue) {
+        return findMin().orElse(defaultValue);
+    }
+
+    // ----------------- Getters -----------------
+
+    public LongList2 choose(int... indexes) {
+        PrimitiveLists.checkIndexes(indexes, size);
+        long[] result = new long[indexes.length];
+        for (int i = 0; i < indexes.length; i++) result[i] = data[indexes[i]];
+        return new LongList2(result, result.length);
+    }
+
+    // ----------------- Filters and mappers -----------------
+
+    public LongList2 toFilter(LongPredicate predicate) {
+        long[] result = new long[size];
+        int n = 0;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) result[n++] = data[i];
+        return trimmed(result, n);
+    }
+
+    public void filter(LongPredicate predicate) {
+        int n = 0;
+        for (int i = 0; i < size; i++)
+            if (predicate.test(data[i])) data[n++] = data[i];
+        size = n;
+    }
+
+    public LongList2 toMapped(LongUnaryOperator mapper) {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) result[i] = mapper.applyAsLong(data[i]);
+        return new LongList2(result, size);
+    }
+
+    public void map(LongUnaryOperator mapper) {
+        for (int i = 0; i < size; i++) data[i] = mapper.applyAsLong(data[i]);
+    }
+
+    public <R> List2<R> mapToObj(LongFunction<? extends R> mapper) {
+        List2<R> result = new List2<>();
+        for (int i = 0; i < size; i++) result.add(mapper.apply(data[i]));
+        return result;
+    }
+
+    public LongList2 toDistinct() {
+        LongList2 result = copy();
+        result.distinct();
+        if (PrimitiveLists.isOversized(result.size, result.data.length)) result.trimToSize();
+        return result;
+    }
+
+    // Mantiene la primera aparición de cada valor: O(n log n) y sin boxing
+    public void distinct() {
+        long[] unique = sortedUnique(data, size);
+        boolean[] seen = new boolean[unique.length];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            int index = Arrays.binarySearch(unique, data[i]);
+            if (!seen[index]) {
+                seen[index] = true;
+                data[n++] = data[i];
+            }
+        }
+        size = n;
+    }
+
+    public LongList2 toSorted() {
+        LongList2 result = copy();
+        result.sort();
+        return result;
+    }
+
+    public void sort() {
+        Arrays.sort(data, 0, size);
+    }
+
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) swap(i, j);
+    }
+
+    public void shuffle() {
+        shuffle(new Random());
+    }
+
+    public void shuffle(Random random) {
+        for (int i = size - 1; i > 0; i--) swap(i, random.nextInt(i + 1));
+    }
+
+    public void rotateRight(int distance) {
+        if (size == 0) return;
+        distance = Math.floorMod(distance, size);
+        if (distance == 0) return;
+        long[] rotated = new long[size];
+        System.arraycopy(data, size - distance, rotated, 0, distance);
+        System.arraycopy(data, 0, rotated, distance, size - distance);
+        System.arraycopy(rotated, 0, data, 0, size);
+    }
+
+    public void rotateLeft(int distance) {
+        rotateRight(-distance);
+    }
+
+    public void swap(int i, int j) {
+        Objects.checkIndex(i, size);
+        Objects.checkIndex(j, size);
+        long temp = data[i];
+        data[i] = data[j];
+        data[j] = temp;
+    }
+
+    // ----------------- Combination and extraction -----------------
+
+    public void concat(LongList2... others) {
+        for (LongList2 other : others) addAll(other);
+    }
+
+    public LongList2 difference(LongList2 other) {
+        long[] sorted = sortedUnique(other.data, other.size);
+        return toFilter(value -> Arrays.binarySearch(sorted, value) < 0);
+    }
+
+    public LongList2 union(LongList2 other) {
+        LongList2 result = copy();
+        result.ensureCapacity(size + other.size);
+        long[] seen = sortedUnique(data, size);
+        long[] candidates = new long[other.size];
+        int n = 0;
+        for (int i = 0; i < other.size; i++)
+            if (Arrays.binarySearch(seen, other.data[i]) < 0) candidates[n++] = other.data[i];
+        LongList2 added = new LongList2(candidates, n);
+        added.distinct();
+        result.addAll(added);
+        return result;
+    }
+
+    public LongList2 intersection(LongList2 other) {
+        long[] sorted = sortedUnique(other.data, other.size);
+        return toFilter(value -> Arrays.binarySearch(sorted, value) >= 0);
+    }
+
+    public LongList2 subListSafe(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(size, to);
+        if (from >= to) return empty();
+        return new LongList2(Arrays.copyOfRange(data, from, to), to - from);
+    }
+
+    public List2<LongList2> split(int chunkSize) {
+        PrimitiveLists.checkChunkSize(chunkSize);
+        List2<LongList2> result = new List2<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int to = Math.min(size, from + chunkSize);
+            result.add(new LongList2(Arrays.copyOfRange(data, from, to), to - from));
+        }
+        return result;
+    }
+
+    private static long[] sortedUnique(long[] values, int length) {
+        long[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < length; i++)
+            if (n == 0 || sorted[n - 1] != sorted[i]) sorted[n++] = sorted[i];
+        return n == length ? sorted : Arrays.copyOf(sorted, n);
+    }
+
+    // ----------------- toString -----------------
+
+    public String toString(String sep, String prefix, String suffix) {
+        StringBuilder result = new StringBuilder(prefix);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) result.append(sep);
+            result.append(data[i]);
+        }
+        return result.append(suffix).toString();
+    }
+
+    public String toString(String prefix, String suffix) {
+        return toString("\n", prefix, suffix);
+    }
+
+    @Override
+    public String toString() {
+        return toString("", "");
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongList2 other) || other.size != size) return false;
+        for (int i = 0; i < size; i++)
+            if (data[i] != other.data[i]) return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) hash = 31 * hash + Long.hashCode(data[i]);
+        return hash;
+    }
+}
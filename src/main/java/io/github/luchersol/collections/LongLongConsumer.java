@@ -0,0 +1,12 @@
+package io.github.luchersol.collections;
+
+/**
+ * Represents an operation that accepts a {@code long} key and a {@code long} value, used to
+ * iterate {@link LongMap2} without boxing or allocating an entry.
+ */
+@FunctionalInterface
+public interface LongLongConsumer {
+
+    void accept(long key, long value);
+
+}
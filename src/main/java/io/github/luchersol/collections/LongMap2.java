@@ -0,0 +1,324 @@
+package io.github.luchersol.collections;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+import io.github.luchersol.Checker;
+
+public class LongMap2 {
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    // Direccionamiento abierto con sondeo lineal: la clave 0 marca hueco libre y se guarda aparte
+    private long[] keys;
+    private long[] values;
+    private boolean hasZeroKey;
+    private long zeroValue;
+    private final float loadFactor;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    // ----------------- Constructors -----------------
+
+    public LongMap2() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongMap2(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LongMap2(int expectedSize, float loadFactor) {
+        Checker.check(expectedSize >= 0, "expectedSize must be >= 0");
+        Checker.check(loadFactor > 0f && loadFactor < 1f, "loadFactor must be in (0, 1)");
+        this.loadFactor = loadFactor;
+        allocate(capacityFor(expectedSize, loadFactor));
+    }
+
+    public LongMap2(LongMap2 other) {
+        this.loadFactor = other.loadFactor;
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.hasZeroKey = other.hasZeroKey;
+        this.zeroValue = other.zeroValue;
+        this.size = other.size;
+        this.mask = other.mask;
+        this.threshold = other.threshold;
+    }
+
+    public static LongMap2 empty() {
+        return new LongMap2();
+    }
+
+    public static LongMap2 of(Map<Long, Long> map) {
+        LongMap2 result = new LongMap2(map.size());
+        map.forEach((key, value) -> result.put(key, value));
+        return result;
+    }
+
+    public static LongMap2 of(long key0, long val0) {
+        LongMap2 result = empty();
+        result.put(key0, val0);
+        return result;
+    }
+
+    public static LongMap2 of(long key0, long val0, long key1, long val1) {
+        LongMap2 result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        return result;
+    }
+
+    public static LongMap2 of(long key0, long val0, long key1, long val1, long key2, long val2) {
+        LongMap2 result = empty();
+        result.put(key0, val0);
+        result.put(key1, val1);
+        result.put(key2, val2);
+        return result;
+    }
+
+    public LongMap2 copy() {
+        return new LongMap2(this);
+    }
+
+    public Map2<Long, Long> toMap2() {
+        Map2<Long, Long> result = Map2.empty();
+        forEach((key, value) -> result.put(key, value));
+        return result;
+    }
+
+    // ----------------- Basic Operators -----------------
+
+    public boolean put(long key, long value) {
+        if (key == 0) {
+            zeroValue = value;
+            if (hasZeroKey) return false;
+            hasZeroKey = true;
+            size++;
+            return true;
+        }
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) {
+                values[i] = value;
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > threshold) rehash(keys.length << 1);
+        return true;
+    }
+
+    // Suma delta al valor de la clave (0 si no existe) y devuelve el resultado
+    public long addTo(long key, long delta) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return zeroValue += delta;
+        }
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) return values[i] += delta;
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = delta;
+        if (++size > threshold) rehash(keys.length << 1);
+        return delta;
+    }
+
+    public long get(long key) {
+        int slot = slotOf(key);
+        if (slot == -1) throw new NoSuchElementException("Key not found: " + key);
+        return slot == keys.length ? zeroValue : values[slot];
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        int slot = slotOf(key);
+        if (slot == -1) return defaultValue;
+        return slot == keys.length ? zeroValue : values[slot];
+    }
+
+    public OptionalLong find(long key) {
+        int slot = slotOf(key);
+        if (slot == -1) return OptionalLong.empty();
+        return OptionalLong.of(slot == keys.length ? zeroValue : values[slot]);
+    }
+
+    public boolean containsKey(long key) {
+        return slotOf(key) != -1;
+    }
+
+    public boolean containsValue(long value) {
+        if (hasZeroKey && zeroValue == value) return true;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0 && values[i] == value) return true;
+        return false;
+    }
+
+    public boolean remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) return false;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) {
+                shiftBack(i);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // ----------------- Iteration -----------------
+
+    public void forEach(LongLongConsumer action) {
+        if (hasZeroKey) action.accept(0, zeroValue);
+        long[] keys = this.keys;
+        long[] values = this.values;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) action.accept(keys[i], values[i]);
+    }
+
+    public LongList2 keys() {
+        LongList2 result = new LongList2(size);
+        forEach((key, value) -> result.add(key));
+        return result;
+    }
+
+    public LongList2 values() {
+        LongList2 result = new LongList2(size);
+        forEach((key, value) -> result.add(value));
+        return result;
+    }
+
+    // ----------------- Hashing -----------------
+
+    // Posición de la clave, keys.length para la clave 0 o -1 si no existe
+    private int slotOf(long key) {
+        if (key == 0) return hasZeroKey ? keys.length : -1;
+        int i = index(key);
+        long current;
+        while ((current = keys[i]) != 0) {
+            if (current == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int index(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        return (int) Math.max(4, Long.highestOneBit(Math.min(1 << 30, needed - 1)) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        threshold = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key == 0) continue;
+            int i = index(key);
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = oldValues[j];
+        }
+    }
+
+    // Borrado sin lápidas: se desplazan hacia atrás las claves del mismo grupo
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long key = keys[i];
+            if (key == 0) break;
+            int home = index(key);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    // ----------------- toString -----------------
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (result.length() > 1) result.append(", ");
+            result.append(key).append('=').append(value);
+        });
+        return result.append('}').toString();
+    }
+
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongMap2 other) || other.size != size) return false;
+        if (hasZeroKey && (!other.hasZeroKey || zeroValue != other.zeroValue)) return false;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == 0) continue;
+            int slot = other.slotOf(keys[i]);
+            if (slot == -1 || other.values[slot] != values[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = hasZeroKey ? Long.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++)
+            if (keys[i] != 0) hash += Long.hashCode(keys[i]) ^ Long.hashCode(values[i]);
+        return hash;
+    }
+
+}
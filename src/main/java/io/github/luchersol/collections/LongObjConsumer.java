@@ -0,0 +1,14 @@
+package io.github.luchersol.collections;
+
+/**
+ * Represents an operation that accepts a {@code long} key and an object value, used to
+ * iterate primitive-keyed maps without boxing the key or allocating an entry.
+ *
+ * @param <V> the type of the value
+ */
+@FunctionalInterface
+public interface LongObjConsumer<V> {
+
+    void accept(long key, V value);
+
+}
@@ -2,11 +2,14 @@ package io.github.luchersol.collections;
 
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public class Map2<K, V> extends AbstractMap<K, V> {
 
@@ -28,6 +31,10 @@ public class Map2<K, V> extends AbstractMap<K, V> {
         this.inner = new HashMap<>();
     }
 
+    public Map2(int expectedSize) {
+        this.inner = HashMap.newHashMap(expectedSize);
+    }
+
     public Map2(Map<? extends K, ? extends V> other) {
         this.inner = new HashMap<>(other);
     }
@@ -40,6 +47,10 @@ public class Map2<K, V> extends AbstractMap<K, V> {
         return new Map2<>();
     }
 
+    public static <K, V> Map2<K, V> withExpectedSize(int expectedSize) {
+        return new Map2<>(expectedSize);
+    }
+
     // ----------------- Basic Operators -----------------
 
     @Override
@@ -72,8 +83,80 @@ public class Map2<K, V> extends AbstractMap<K, V> {
         return inner.size();
     }
 
+    @Override
+    public boolean containsValue(Object value) {
+        return inner.containsValue(value);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return inner.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return inner.values();
+    }
+
+    // ----------------- Iteration -----------------
+
+    // Recorridos sobre el mapa interno: no se crea ninguna entrada por elemento
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        inner.forEach(action);
+    }
+
+    public void forEachKey(Consumer<? super K> action) {
+        for (K key : inner.keySet()) action.accept(key);
+    }
+
+    public void forEachValue(Consumer<? super V> action) {
+        for (V value : inner.values()) action.accept(value);
+    }
+
+    public MapCursor<K, V> cursor() {
+        Iterator<Entry<K, V>> it = inner.entrySet().iterator();
+
+        return new MapCursor<>() {
+            private Entry<K, V> current;
+
+            @Override
+            public boolean advance() {
+                if (!it.hasNext()) {
+                    current = null;
+                    return false;
+                }
+                current = it.next();
+                return true;
+            }
+
+            @Override
+            public K key() {
+                return entry().getKey();
+            }
+
+            @Override
+            public V value() {
+                return entry().getValue();
+            }
+
+            @Override
+            public void remove() {
+                entry();
+                it.remove();
+                current = null;
+            }
+
+            private Entry<K, V> entry() {
+                if (current == null) throw new IllegalStateException("Cursor is not positioned on an entry");
+                return current;
+            }
+        };
+    }
+
     // ----------------- Controlled EntrySet -----------------
-    
+
+    // Cada entrada es una copia: modificarla no altera el mapa
     @Override
     public Set<Entry<K, V>> entrySet() {
         return new AbstractSet<>() {
@@ -108,23 +191,41 @@ public class Map2<K, V> extends AbstractMap<K, V> {
         };
     }
 
+    // ----------------- Equality -----------------
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return inner.equals(o instanceof Map2<?, ?> other ? other.inner : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return inner.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return inner.toString();
+    }
+
     // ----------------- Default constructors -----------------
 
     public static <K, V> Map2<K, V> of(K key0, V val0) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(1);
         result.put(key0, val0);
         return result;
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(2);
         result.put(key0, val0);
         result.put(key1, val1);
         return result;
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(3);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -132,7 +233,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2, K key3, V val3) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(4);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -141,7 +242,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2, K key3, V val3, K key4, V val4) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(5);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -151,7 +252,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2, K key3, V val3, K key4, V val4, K key5, V val5) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(6);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -162,7 +263,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2, K key3, V val3, K key4, V val4, K key5, V val5, K key6, V val6) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(7);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -174,7 +275,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2, K key3, V val3, K key4, V val4, K key5, V val5, K key6, V val6, K key7, V val7) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(8);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -187,7 +288,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2, K key3, V val3, K key4, V val4, K key5, V val5, K key6, V val6, K key7, V val7, K key8, V val8) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(9);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -201,7 +302,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
     }
 
     public static <K, V> Map2<K, V> of(K key0, V val0, K key1, V val1, K key2, V val2, K key3, V val3, K key4, V val4, K key5, V val5, K key6, V val6, K key7, V val7, K key8, V val8, K key9, V val9) {
-        Map2<K, V> result = empty();
+        Map2<K, V> result = withExpectedSize(10);
         result.put(key0, val0);
         result.put(key1, val1);
         result.put(key2, val2);
@@ -218,7 +319,7 @@ public class Map2<K, V> extends AbstractMap<K, V> {
 
     @SafeVarargs
     public static <K,V> Map2<K,V> ofEntries(Entry<? extends K, ? extends V>... entries) {
-        Map2<K,V> result = empty();
+        Map2<K,V> result = withExpectedSize(entries.length);
         for (Entry<? extends K,? extends V> entry : entries) 
             result.put(entry.getKey(), entry.getValue());
         return result;
@@ -0,0 +1,35 @@
+package io.github.luchersol.collections;
+
+/**
+ * Cursor over the entries of a map that exposes the current key and value directly instead
+ * of materializing an entry object per step.
+ * <p>
+ * A cursor starts before the first entry; {@link #advance()} must be called (and return
+ * {@code true}) before {@link #key()} or {@link #value()} are read.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public interface MapCursor<K, V> {
+
+    /**
+     * Moves to the next entry.
+     *
+     * @return {@code false} if there are no more entries
+     */
+    boolean advance();
+
+    K key();
+
+    V value();
+
+    /**
+     * Removes the current entry from the underlying map, if supported.
+     *
+     * @throws UnsupportedOperationException if the map cannot be modified through the cursor
+     */
+    default void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+}
@@ -0,0 +1,145 @@
+package io.github.luchersol.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Fork-join helpers behind the {@code parallel*} methods of the collections.
+ * The source is cut into contiguous chunks, each chunk builds its own partial result without
+ * any synchronization, and the partials are merged in chunk order so lists keep their ordering.
+ */
+final class ParallelOps {
+
+    /**
+     * Below this number of elements the operations run sequentially in the calling thread.
+     */
+    static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /**
+     * Chunks per worker thread, so uneven chunks can still be balanced by work stealing.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelOps() {
+    }
+
+    @FunctionalInterface
+    interface Leaf<E, P> {
+        P apply(Collection<E> chunk);
+    }
+
+    // Devuelve los resultados parciales de cada trozo, en el orden de la fuente. Por debajo del
+    // umbral se recorre la propia colección; sólo se copia a una lista si hay que repartirla
+    static <E, P> List<P> run(Collection<E> elements, ForkJoinPool pool, Leaf<E, P> leaf) {
+        int n = elements.size();
+        int chunks = Math.min((n + SEQUENTIAL_THRESHOLD - 1) / SEQUENTIAL_THRESHOLD, pool.getParallelism() * CHUNKS_PER_THREAD);
+        if (chunks <= 1) return List.of(leaf.apply(elements));
+
+        List<E> source = elements instanceof List<E> list && list instanceof RandomAccess ? list : new ArrayList<>(elements);
+        n = source.size();
+        int chunkSize = (n + chunks - 1) / chunks;
+        List<ForkJoinTask<P>> tasks = new ArrayList<>(chunks);
+        for (int from = 0; from < n; from += chunkSize) {
+            List<E> chunk = source.subList(from, Math.min(n, from + chunkSize));
+            tasks.add(pool.submit(() -> leaf.apply(chunk)));
+        }
+
+        List<P> partials = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<P> task : tasks) partials.add(task.join());
+        return partials;
+    }
+
+    // El resultado se construye con factory (tamaño esperado -> colección vacía), p. ej. ArrayList::new o HashSet::newHashSet
+    static <E, R, C extends Collection<R>> C map(Collection<E> elements, Function<? super E, ? extends R> mapper, ForkJoinPool pool, IntFunction<C> factory) {
+        List<C> partials = run(elements, pool, chunk -> {
+            C partial = factory.apply(chunk.size());
+            for (E e : chunk) partial.add(mapper.apply(e));
+            return partial;
+        });
+        return concat(partials, elements.size(), factory);
+    }
+
+    static <E, C extends Collection<E>> C filter(Collection<E> elements, Predicate<? super E> predicate, ForkJoinPool pool, IntFunction<C> factory) {
+        List<C> partials = run(elements, pool, chunk -> {
+            C partial = factory.apply(0);
+            for (E e : chunk)
+                if (predicate.test(e)) partial.add(e);
+            return partial;
+        });
+        int size = 0;
+        for (C partial : partials) size += partial.size();
+        return concat(partials, size, factory);
+    }
+
+    static <E> long count(Collection<E> elements, Predicate<? super E> predicate, ForkJoinPool pool) {
+        List<Long> partials = run(elements, pool, chunk -> {
+            long count = 0L;
+            for (E e : chunk)
+                if (predicate.test(e)) count++;
+            return count;
+        });
+        long count = 0L;
+        for (long partial : partials) count += partial;
+        return count;
+    }
+
+    static <E, K> Map<K, List<E>> groupingBy(Collection<E> elements, Function<? super E, ? extends K> classifier, ForkJoinPool pool) {
+        List<Map<K, List<E>>> partials = run(elements, pool, chunk -> {
+            Map<K, List<E>> partial = new HashMap<>();
+            for (E e : chunk) {
+                // Como Collectors.groupingBy, que es la versión secuencial
+                K key = Objects.requireNonNull(classifier.apply(e), "element cannot be mapped to a null key");
+                partial.computeIfAbsent(key, k -> new ArrayList<>()).add(e);
+            }
+            return partial;
+        });
+
+        Map<K, List<E>> result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++) {
+            for (Map.Entry<K, List<E>> entry : partials.get(i).entrySet()) {
+                List<E> group = result.putIfAbsent(entry.getKey(), entry.getValue());
+                if (group != null) group.addAll(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    static <E, K, V> Map<K, V> toMap(Collection<E> elements, Function<? super E, ? extends K> keyMapper, Function<? super E, ? extends V> valueMapper, BinaryOperator<V> mergeFunction, ForkJoinPool pool) {
+        BinaryOperator<V> merge = mergeFunction != null ? mergeFunction : ParallelOps::duplicateKey;
+        List<Map<K, V>> partials = run(elements, pool, chunk -> {
+            Map<K, V> partial = new HashMap<>();
+            for (E e : chunk)
+                partial.merge(keyMapper.apply(e), valueMapper.apply(e), merge);
+            return partial;
+        });
+
+        Map<K, V> result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++) {
+            for (Map.Entry<K, V> entry : partials.get(i).entrySet())
+                result.merge(entry.getKey(), entry.getValue(), merge);
+        }
+        return result;
+    }
+
+    private static <V> V duplicateKey(V left, V right) {
+        throw new IllegalStateException("Duplicate key (attempted merging values %s and %s)".formatted(left, right));
+    }
+
+    private static <E, C extends Collection<E>> C concat(List<C> partials, int size, IntFunction<C> factory) {
+        if (partials.size() == 1) return partials.get(0);
+        C result = factory.apply(size);
+        for (C partial : partials) result.addAll(partial);
+        return result;
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.luchersol.collections;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import io.github.luchersol.Checker;
+
+/**
+ * Persistent vector backed by a 32-way trie. Every "modification" copies only the path from the
+ * root to the touched leaf, so versions share all the other nodes.
+ * <p>
+ * Logical index {@code i} lives at trie index {@code origin + i}. Growing {@code origin} downwards
+ * gives O(log32 n) prepends, and slices only move {@code origin} and {@code size}, so sub lists are O(1).
+ * As a {@link java.util.List} the vector is read-only.
+ *
+ * @param <E> the type of the elements
+ */
+final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Object[WIDTH], 0, 0, 0);
+
+    // Los nodos internos contienen Object[] hijos; las hojas (shift 0) contienen los elementos
+    private final Object[] root;
+    private final int shift;
+    private final int origin;
+    private final int size;
+
+    private PersistentVector(Object[] root, int shift, int origin, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.origin = origin;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    // Construcción por bloques: las hojas se llenan directamente desde el array, sin copias de caminos
+    static <E> PersistentVector<E> of(Object[] elements) {
+        int n = elements.length;
+        if (n == 0) return empty();
+
+        Object[] level = new Object[(n + MASK) >>> BITS];
+        for (int i = 0; i < level.length; i++) {
+            Object[] leaf = new Object[WIDTH];
+            System.arraycopy(elements, i << BITS, leaf, 0, Math.min(WIDTH, n - (i << BITS)));
+            level[i] = leaf;
+        }
+
+        int shift = 0;
+        while (level.length > 1) {
+            Object[] parents = new Object[(level.length + MASK) >>> BITS];
+            for (int i = 0; i < parents.length; i++) {
+                Object[] node = new Object[WIDTH];
+                System.arraycopy(level, i << BITS, node, 0, Math.min(WIDTH, level.length - (i << BITS)));
+                parents[i] = node;
+            }
+            level = parents;
+            shift += BITS;
+        }
+        return new PersistentVector<>((Object[]) level[0], shift, 0, n);
+    }
+
+    // ----------------- Reads -----------------
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) leafFor(origin + index)[(origin + index) & MASK];
+    }
+
+    private Object[] leafFor(int trieIndex) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(trieIndex >>> level) & MASK];
+        }
+        return node;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) throw new NoSuchElementException();
+                int trieIndex = origin + index++;
+                if (leaf == null || (trieIndex & MASK) == 0) leaf = leafFor(trieIndex);
+                return (E) leaf[trieIndex & MASK];
+            }
+        };
+    }
+
+    // ----------------- Persistent updates -----------------
+
+    PersistentVector<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        return new PersistentVector<>(assoc(root, shift, origin + index, element), shift, origin, size);
+    }
+
+    PersistentVector<E> append(E element) {
+        Object[] newRoot = root;
+        int newShift = shift;
+        int trieIndex = origin + size;
+        // El trie está lleno por la derecha: se añade un nivel con la raíz actual a la izquierda
+        while (trieIndex >= capacity(newShift)) {
+            Object[] node = new Object[WIDTH];
+            node[0] = newRoot;
+            newRoot = node;
+            newShift += BITS;
+        }
+        return new PersistentVector<>(assoc(newRoot, newShift, trieIndex, element), newShift, origin, size + 1);
+    }
+
+    PersistentVector<E> prepend(E element) {
+        Object[] newRoot = root;
+        int newShift = shift;
+        int newOrigin = origin;
+        // Sin hueco a la izquierda: se añade un nivel con la raíz actual en la segunda posición
+        if (newOrigin == 0) {
+            Checker.check(newShift + BITS < Integer.SIZE - 1, "PersistentVector is too large");
+            Object[] node = new Object[WIDTH];
+            node[1] = newRoot;
+            newOrigin = capacity(newShift);
+            newRoot = node;
+            newShift += BITS;
+        }
+        newOrigin--;
+        return new PersistentVector<>(assoc(newRoot, newShift, newOrigin, element), newShift, newOrigin, size + 1);
+    }
+
+    PersistentVector<E> slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == to) return empty();
+        return new PersistentVector<>(root, shift, origin + from, to - from);
+    }
+
+    private static int capacity(int shift) {
+        return shift + BITS >= Integer.SIZE - 1 ? Integer.MAX_VALUE : 1 << (shift + BITS);
+    }
+
+    private static Object[] assoc(Object[] node, int level, int trieIndex, Object element) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int slot = (trieIndex >>> level) & MASK;
+        if (level == 0) {
+            copy[slot] = element;
+        } else {
+            copy[slot] = assoc((Object[]) copy[slot], level - BITS, trieIndex, element);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.luchersol.collections;
+
+import io.github.luchersol.Checker;
+
+// Política común de IntList2, LongList2 y DoubleList2: crecimiento del array, cuándo recortar un
+// resultado y comprobaciones de argumentos. Cada lista sólo conserva el código propio de su tipo
+final class PrimitiveLists {
+
+    static final int DEFAULT_CAPACITY = 10;
+
+    private PrimitiveLists() { }
+
+    // Crece un 50% (o hasta DEFAULT_CAPACITY si está vacío), y al menos hasta minCapacity
+    static int newCapacity(int length, int minCapacity) {
+        return Math.max(minCapacity, length == 0 ? DEFAULT_CAPACITY : length + (length >> 1));
+    }
+
+    // Un resultado que usa menos de la mitad de su array se recorta para no retener el tamaño del origen
+    static boolean isOversized(int size, int length) {
+        return length > DEFAULT_CAPACITY && size < length >>> 1;
+    }
+
+    static void checkCapacity(int initialCapacity) {
+        Checker.check(initialCapacity >= 0, "initialCapacity must be >= 0");
+    }
+
+    static void checkIndexes(int[] indexes, int size) {
+        for (int index : indexes)
+            Checker.check(index >= 0 && index < size, "Todos los indices deben existir entre 0 y la longitud de la lista");
+    }
+
+    static void checkChunkSize(int chunkSize) {
+        Checker.check(chunkSize > 0, "chunkSize must be > 0");
+    }
+}
@@ -1,9 +1,11 @@
 package io.github.luchersol.collections;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -17,6 +19,10 @@ public class Set2<E> extends AbstractSet2<E> {
         this.inner = new HashSet<>();
     }
 
+    public Set2(int expectedSize) {
+        this.inner = HashSet.newHashSet(expectedSize);
+    }
+
     public Set2(Collection<? extends E> c) {
         this.inner = new HashSet<>(c);
     }
@@ -30,19 +36,33 @@ public class Set2<E> extends AbstractSet2<E> {
         return new Set2<E>();
     }
 
+    public static <E> Set2<E> withExpectedSize(int expectedSize) {
+        return new Set2<E>(expectedSize);
+    }
+
     public static <E> Set2<E> of(Collection<E> c) {
         return new Set2<>(c);
     } 
 
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <E> Set2<E> of(E... arg0) {
-        return new Set2<>(List.of(arg0));
+        Set2<E> result = withExpectedSize(arg0.length);
+        Collections.addAll(result.inner, arg0);
+        return result;
     }
 
     public Set2<E> copy() {
         return of(this);
     }
 
+    // Adopta un conjunto recién construido sin copiarlo
+    private static <E> Set2<E> wrap(Set<E> set) {
+        Set2<E> result = withExpectedSize(0);
+        result.inner = set;
+        return result;
+    }
+
     // ----------------- Filters and mappers -----------------
 
     public Set2<E> filter(Predicate<? super E> predicate) {
@@ -53,15 +73,32 @@ public class Set2<E> extends AbstractSet2<E> {
     }
 
     public <R> Set2<R> map(Function<? super E, ? extends R> mapper) {
-        Set2<R> result = empty();
+        Set2<R> result = withExpectedSize(size());
         for (E e : this.inner) 
             result.add(mapper.apply(e));
         return result;
     }
 
+    // Versiones paralelas de filter/map; por debajo de ParallelOps.SEQUENTIAL_THRESHOLD se ejecutan en secuencia
+    public Set2<E> parallelFilter(Predicate<? super E> predicate) {
+        return parallelFilter(predicate, ForkJoinPool.commonPool());
+    }
+
+    public Set2<E> parallelFilter(Predicate<? super E> predicate, ForkJoinPool pool) {
+        return wrap(ParallelOps.filter(inner, predicate, pool, HashSet::newHashSet));
+    }
+
+    public <R> Set2<R> parallelMap(Function<? super E, ? extends R> mapper) {
+        return parallelMap(mapper, ForkJoinPool.commonPool());
+    }
+
+    public <R> Set2<R> parallelMap(Function<? super E, ? extends R> mapper, ForkJoinPool pool) {
+        return wrap(ParallelOps.map(inner, mapper, pool, HashSet::newHashSet));
+    }
+
     public Set2<E> distinct() {
-        Set<E> seen = new HashSet<>();
-        Set2<E> result = new Set2<>();
+        Set<E> seen = HashSet.newHashSet(size());
+        Set2<E> result = withExpectedSize(size());
         for (E e : this.inner) 
             if (seen.add(e)) result.add(e);
         return result;
@@ -82,22 +119,28 @@ public class Set2<E> extends AbstractSet2<E> {
     }
 
     public Set2<E> difference(Collection<? extends E> other){
+        if (other instanceof Set<?> set && set.size() > size()) 
+            return filter(e -> !set.contains(e));
 		Set2<E> result = copy();
-        result.removeAll(other);
+        for (E e : other) 
+            result.remove(e);
 		return result;
 	}
 	
 	public Set2<E> union(Collection<? extends E> other){
-        Set<E> seen = new HashSet<>(copy());
-        Set2<E> result = copy();
-        for (E e : other) 
-            if (seen.add(e)) result.add(e);
+        Set2<E> result = withExpectedSize(size() + other.size());
+        result.addAll(inner);
+        result.addAll(other);
         return result;
 	}
 	
+    // Se recorre el lado más pequeño y se consulta el otro (o 'other' directamente si no es un Set)
 	public Set2<E> intersection(Collection<? extends E> other){
-		Set2<E> result = copy();
-		result.retainAll(other);
+        if (other instanceof Set<?> set && set.size() > size()) 
+            return filter(set::contains);
+		Set2<E> result = empty();
+        for (E e : other) 
+            if (inner.contains(e)) result.add(e);
 		return result;
 	}
     